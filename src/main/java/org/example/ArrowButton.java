@@ -38,14 +38,13 @@ public class ArrowButton extends JPanel {
 
     private void loadImages() {
         try {
-            // Use getResourceAsStream for JAR compatibility
-            String imagePath = "/assets/ui/arrow" + direction + ".png";
-            InputStream inputStream = getClass().getResourceAsStream(imagePath);
+            String imagePath = "assets/ui/arrow" + direction + ".png";
+            InputStream inputStream = AssetPack.open(imagePath);
 
             if (inputStream != null) {
                 coloredImage = ImageIO.read(inputStream);
                 coloredImage = scaleImage(coloredImage, arrowSize, arrowSize);
-                normalImage = convertToGrayscale(coloredImage);
+                normalImage = ImageLoader.toCompatibleImage(convertToGrayscale(coloredImage));
                 imageLoaded = true;
                 inputStream.close(); // Don't forget to close the stream
             } else {
@@ -59,7 +58,7 @@ public class ArrowButton extends JPanel {
     }
 
     private BufferedImage scaleImage(BufferedImage original, int width, int height) {
-        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage scaled = ImageLoader.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
         Graphics2D g2d = scaled.createGraphics();
         g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
         g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
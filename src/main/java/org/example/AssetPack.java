@@ -0,0 +1,307 @@
+package org.example;
+
+import javax.imageio.ImageIO;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/*
+    Asset pack layout, little-endian, written by AssetPackExporter at build time from src/main/resources/assets:
+
+      0  int   magic "MGAP"          16  index, sorted by path: entryCount x
+      4  short version                     long  payload offset
+      6  short flags (unused)              long  payload length
+      8  int   entryCount                  short path length + UTF-8 path ("assets/tiles/grass.png")
+     12  int   index size in bytes
+
+    Payloads follow the index, each on an 8-byte boundary, and are the asset files byte for byte - PNG and
+    TTF are compressed formats already. The pack is mapped read-only once for the life of the game and
+    open() hands out streams over slices of that mapping, so a lookup is a binary search and nothing is
+    inflated or copied before the decoder reads it. Run from a jar, the pack itself is first inflated to a
+    temp file once per start; -Dmagellan.assetPack pointing at an unpacked copy avoids that.
+ */
+public class AssetPack {
+    public static final int MAGIC = 0x5041474D; // "MGAP" in little-endian
+    public static final short VERSION = 1;
+    public static final String RESOURCE = "assets.pack";
+
+    private static final int HEADER_SIZE = 16;
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    // Declared before pack: opening the pack goes through resourcePath
+    private static final Map<String, Path> extractedResources = new ConcurrentHashMap<>();
+    private static final AssetPack pack = openPack(); // null without a pack; assets then come from the classpath
+
+    private final MemorySegment file;
+    private final String[] paths;
+    private final long[] offsets;
+    private final long[] lengths;
+
+    private AssetPack(MemorySegment file, String[] paths, long[] offsets, long[] lengths) {
+        this.file = file;
+        this.paths = paths;
+        this.offsets = offsets;
+        this.lengths = lengths;
+    }
+
+    // The asset from the pack, else the classpath, else the working directory (development runs).
+    // null when it is in none of them. Callers close the stream.
+    public static InputStream open(String path) {
+        ByteBuffer packed = get(path);
+        if (packed != null) {
+            return new BufferStream(packed);
+        }
+
+        InputStream is = AssetPack.class.getClassLoader().getResourceAsStream(path);
+        if (is != null) {
+            return is;
+        }
+
+        try {
+            File file = new File(path);
+            return file.isFile() ? new FileInputStream(file) : null;
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+    }
+
+    // Read-only view of the packed asset's bytes, or null when it isn't in the pack
+    public static ByteBuffer get(String path) {
+        if (pack == null) {
+            return null;
+        }
+        int index = Arrays.binarySearch(pack.paths, path);
+        return index < 0 ? null : pack.file.asSlice(pack.offsets[index], pack.lengths[index]).asByteBuffer();
+    }
+
+    public static boolean isLoaded() {
+        return pack != null;
+    }
+
+    public static int getEntryCount() {
+        return pack == null ? 0 : pack.paths.length;
+    }
+
+    private static AssetPack openPack() {
+        Path path = GameConfig.ASSET_PACK != null
+                ? Path.of(GameConfig.ASSET_PACK) : resourcePath(RESOURCE, "magellan-", ".pack");
+        if (path == null || !Files.isRegularFile(path)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            AssetPack opened = read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), Arena.global()), path);
+
+            // Images decode straight from mapped memory; ImageIO's default temp-file stream cache would only
+            // copy the bytes back out to disk first
+            ImageIO.setUseCache(false);
+
+            System.out.println("Asset pack: " + opened.paths.length + " entries, " +
+                    channel.size() / 1024 + " KB mapped from " + path);
+            return opened;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error opening asset pack " + path + ", using loose assets: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static AssetPack read(MemorySegment file, Path path) throws IOException {
+        if (file.byteSize() < HEADER_SIZE || file.get(INT, 0) != MAGIC) {
+            throw new IOException("Not an asset pack: " + path);
+        }
+        if (file.get(SHORT, 4) != VERSION) {
+            throw new IOException("Unsupported asset pack version " + file.get(SHORT, 4) + ": " + path);
+        }
+
+        // Every entry takes at least 18 index bytes, which bounds the count before anything is allocated
+        int entryCount = file.get(INT, 8);
+        if (entryCount < 0 || entryCount > (file.byteSize() - HEADER_SIZE) / 18) {
+            throw new IOException("Bad asset pack entry count " + entryCount + ": " + path);
+        }
+        String[] paths = new String[entryCount];
+        long[] offsets = new long[entryCount];
+        long[] lengths = new long[entryCount];
+
+        long position = HEADER_SIZE;
+        for (int i = 0; i < entryCount; i++) {
+            if (position + 18 > file.byteSize()) {
+                throw new IOException("Truncated asset pack index: " + path);
+            }
+            offsets[i] = file.get(LONG, position);
+            lengths[i] = file.get(LONG, position + 8);
+            int pathLength = Short.toUnsignedInt(file.get(SHORT, position + 16));
+            if (position + 18 + pathLength > file.byteSize() || offsets[i] < HEADER_SIZE || lengths[i] < 0
+                    || offsets[i] > file.byteSize() - lengths[i]) {
+                throw new IOException("Asset pack entry " + i + " runs outside the file: " + path);
+            }
+            byte[] bytes = file.asSlice(position + 18, pathLength).toArray(ValueLayout.JAVA_BYTE);
+            paths[i] = new String(bytes, StandardCharsets.UTF_8);
+            position += 18 + pathLength;
+
+            if (i > 0 && paths[i - 1].compareTo(paths[i]) >= 0) {
+                throw new IOException("Asset pack index is not sorted: " + path);
+            }
+        }
+
+        return new AssetPack(file, paths, offsets, lengths);
+    }
+
+    // Packs every file under assetsDir, keyed by its path relative to assetsDir's parent
+    public static int write(Path output, Path assetsDir) throws IOException {
+        Path root = assetsDir.toAbsolutePath().getParent();
+        List<String> paths = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(assetsDir)) {
+            files.filter(Files::isRegularFile)
+                    .filter(file -> !file.getFileName().toString().startsWith("."))
+                    .forEach(file -> paths.add(root.relativize(file.toAbsolutePath()).toString().replace(File.separatorChar, '/')));
+        }
+        paths.sort(null);
+
+        byte[][] encodedPaths = new byte[paths.size()][];
+        long indexSize = 0;
+        for (int i = 0; i < encodedPaths.length; i++) {
+            encodedPaths[i] = paths.get(i).getBytes(StandardCharsets.UTF_8);
+            indexSize += 18 + encodedPaths[i].length;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(Math.toIntExact(HEADER_SIZE + indexSize)).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) 0)
+                .putInt(paths.size()).putInt(Math.toIntExact(indexSize));
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long offset = align(header.capacity());
+            for (int i = 0; i < encodedPaths.length; i++) {
+                ByteBuffer payload = ByteBuffer.wrap(Files.readAllBytes(root.resolve(paths.get(i))));
+                header.putLong(offset).putLong(payload.remaining())
+                        .putShort((short) encodedPaths[i].length).put(encodedPaths[i]);
+
+                long length = payload.remaining();
+                while (payload.hasRemaining()) {
+                    channel.write(payload, offset + payload.position());
+                }
+                offset = align(offset + length);
+            }
+
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+        return paths.size();
+    }
+
+    // The classpath resource as a file; null when there is no such resource. Inside a jar it is copied to a
+    // temp file the first time (a file channel needs a real file) and that copy is reused for the rest of
+    // the run, so rebuilding a scene doesn't leave another temp file behind.
+    static Path resourcePath(String resource, String tempPrefix, String tempSuffix) {
+        return extractedResources.computeIfAbsent(resource, key -> locate(key, tempPrefix, tempSuffix));
+    }
+
+    private static Path locate(String resource, String tempPrefix, String tempSuffix) {
+        URL url = AssetPack.class.getClassLoader().getResource(resource);
+        if (url == null) {
+            return null;
+        }
+
+        try {
+            if ("file".equals(url.getProtocol())) {
+                return Path.of(url.toURI());
+            }
+
+            Path copy = Files.createTempFile(tempPrefix, tempSuffix);
+            copy.toFile().deleteOnExit();
+            try (InputStream in = url.openStream()) {
+                Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return copy;
+        } catch (IOException | URISyntaxException e) {
+            System.err.println("Error locating resource: " + resource + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static long align(long offset) {
+        return (offset + 7) & ~7L;
+    }
+
+    // InputStream over a packed asset; reads straight from the mapping and supports mark/reset, which
+    // ImageIO and AudioSystem use to sniff the format
+    private static class BufferStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        BufferStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+            buffer.mark();
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(bytes, off, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            buffer.mark();
+        }
+
+        @Override
+        public synchronized void reset() {
+            buffer.reset();
+        }
+    }
+}
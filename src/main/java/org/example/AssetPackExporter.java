@@ -0,0 +1,20 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/*
+    Build step: packs the resources' assets directory into a single AssetPack file.
+    java -cp target/classes org.example.AssetPackExporter src/main/resources/assets target/classes/assets.pack
+ */
+public class AssetPackExporter {
+    public static void main(String[] args) throws IOException {
+        Path assetsDir = Path.of(args.length > 0 ? args[0] : "src/main/resources/assets");
+        Path output = Path.of(args.length > 1 ? args[1] : "target/classes/" + AssetPack.RESOURCE);
+
+        int entries = AssetPack.write(output, assetsDir);
+        System.out.println("Packed " + entries + " assets (" + Files.size(output) / 1024 + " KB) from " +
+                assetsDir + " to " + output);
+    }
+}
@@ -4,14 +4,22 @@ import java.awt.*;
 
 public class Camera {
     private int x, y;
+    private int prevX, prevY;
+    private int pixelX, pixelY;
     private final int viewportWidth;
     private final int viewportHeight;
+    private final int viewportWidthPixels;
+    private final int viewportHeightPixels;
     private int currentSceneWidth;
     private int currentSceneHeight;
+    private boolean sceneFitsWidth = true;
+    private boolean sceneFitsHeight = true;
 
     public Camera(int viewportWidth, int viewportHeight) {
         this.viewportWidth = viewportWidth;
         this.viewportHeight = viewportHeight;
+        this.viewportWidthPixels = viewportWidth * Game.TILE_SIZE;
+        this.viewportHeightPixels = viewportHeight * Game.TILE_SIZE;
         this.x = 0;
         this.y = 0;
         this.currentSceneWidth = 0;
@@ -22,19 +30,18 @@ public class Camera {
         this.currentSceneWidth = sceneWidth;
         this.currentSceneHeight = sceneHeight;
 
-        int sceneWidthPixels = sceneWidth * Game.TILE_SIZE;
-        int sceneHeightPixels = sceneHeight * Game.TILE_SIZE;
-        int viewportWidthPixels = viewportWidth * Game.TILE_SIZE;
-        int viewportHeightPixels = viewportHeight * Game.TILE_SIZE;
+        // Cached here so the per-frame visibility queries don't redo the pixel products
+        sceneFitsWidth = sceneWidth <= viewportWidth;
+        sceneFitsHeight = sceneHeight <= viewportHeight;
 
-        if (sceneWidthPixels <= viewportWidthPixels) {
+        if (sceneFitsWidth) {
             x = -(viewportWidth - sceneWidth) / 2;
         } else {
             x = targetX - viewportWidth / 2;
             x = Math.max(0, Math.min(x, sceneWidth - viewportWidth));
         }
 
-        if (sceneHeightPixels <= viewportHeightPixels) {
+        if (sceneFitsHeight) {
             y = -(viewportHeight - sceneHeight) / 2;
         } else {
             y = targetY - viewportHeight / 2;
@@ -42,13 +49,24 @@ public class Camera {
         }
     }
 
-    public boolean isVisible(int worldX, int worldY) {
-        int sceneWidthPixels = currentSceneWidth * Game.TILE_SIZE;
-        int sceneHeightPixels = currentSceneHeight * Game.TILE_SIZE;
-        int viewportWidthPixels = viewportWidth * Game.TILE_SIZE;
-        int viewportHeightPixels = viewportHeight * Game.TILE_SIZE;
+    public void storePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+
+    // Blends the previous and current tick positions into the pixel offset the renderer uses
+    public void interpolate(float alpha) {
+        pixelX = Math.round((prevX + (x - prevX) * alpha) * Game.TILE_SIZE);
+        pixelY = Math.round((prevY + (y - prevY) * alpha) * Game.TILE_SIZE);
+    }
 
-        if (sceneWidthPixels <= viewportWidthPixels || sceneHeightPixels <= viewportHeightPixels) {
+    public void snap() {
+        storePreviousPosition();
+        interpolate(1f);
+    }
+
+    public boolean isVisible(int worldX, int worldY) {
+        if (sceneFitsWidth || sceneFitsHeight) {
             return worldX >= 0 && worldX < currentSceneWidth &&
                     worldY >= 0 && worldY < currentSceneHeight;
         }
@@ -67,19 +85,21 @@ public class Camera {
 
     public int getX() { return x; }
     public int getY() { return y; }
+    public int getPixelX() { return pixelX; }
+    public int getPixelY() { return pixelY; }
     public int getWidth() { return viewportWidth; }
     public int getHeight() { return viewportHeight; }
 
     public Rectangle getVisibleWorldArea() {
-        int sceneWidthPixels = currentSceneWidth * Game.TILE_SIZE;
-        int sceneHeightPixels = currentSceneHeight * Game.TILE_SIZE;
-        int viewportWidthPixels = viewportWidth * Game.TILE_SIZE;
-        int viewportHeightPixels = viewportHeight * Game.TILE_SIZE;
-
-        if (sceneWidthPixels <= viewportWidthPixels && sceneHeightPixels <= viewportHeightPixels) {
+        if (sceneFitsWidth && sceneFitsHeight) {
             return new Rectangle(0, 0, currentSceneWidth, currentSceneHeight);
         } else {
-            return new Rectangle(x, y, viewportWidth, viewportHeight);
+            // While the camera is between two tiles one extra row/column is partly on screen
+            int startX = Math.floorDiv(pixelX, Game.TILE_SIZE);
+            int startY = Math.floorDiv(pixelY, Game.TILE_SIZE);
+            int endX = Math.floorDiv(pixelX + viewportWidthPixels + Game.TILE_SIZE - 1, Game.TILE_SIZE);
+            int endY = Math.floorDiv(pixelY + viewportHeightPixels + Game.TILE_SIZE - 1, Game.TILE_SIZE);
+            return new Rectangle(startX, startY, endX - startX, endY - startY);
         }
     }
 }
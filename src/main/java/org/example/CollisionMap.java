@@ -0,0 +1,106 @@
+package org.example;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.example.OffHeapTileStorage.WORD;
+
+// One bit per tile (row-major, packed into longs) that is set when the tile is blocked, either by a
+// collidable TileType or by the footprint of a collidable object. Kept up to date incrementally by
+// SceneTile.setTile and addObject/removeObject, so a collision check is a single bit test. The bits
+// live wherever the scene's tiles do: on the heap for small scenes, in native memory for off-heap ones.
+public class CollisionMap {
+    private final SceneTile scene;
+    private final int cols;
+    private final int rows;
+    private final MemorySegment blocked;
+    private final Arena arena; // owns blocked when it was allocated off-heap here, else null
+    private final Map<Integer, Integer> objectCover = new HashMap<>(); // collidable objects per covered tile
+
+    public CollisionMap(SceneTile scene) {
+        this.scene = scene;
+        this.cols = scene.getCols();
+        this.rows = scene.getRows();
+        long words = ((long) cols * rows + 63) >>> 6;
+        if (scene.isOffHeap()) {
+            arena = Arena.ofShared();
+            blocked = arena.allocate(words * Long.BYTES, Long.BYTES).fill((byte) 0);
+        } else {
+            arena = null;
+            blocked = MemorySegment.ofArray(new long[(int) words]);
+        }
+    }
+
+    // Uses precomputed tile collision words in place (see SceneFile); they belong to the scene's storage
+    // and must stay writable for as long as it does. Objects are added afterwards.
+    CollisionMap(SceneTile scene, MemorySegment tileBits) {
+        this.scene = scene;
+        this.cols = scene.getCols();
+        this.rows = scene.getRows();
+        this.arena = null;
+        this.blocked = tileBits;
+    }
+
+    // Outside the scene counts as blocked
+    public boolean isBlocked(int x, int y) {
+        if (x < 0 || x >= cols || y < 0 || y >= rows) {
+            return true;
+        }
+        int bit = y * cols + x;
+        return (blocked.getAtIndex(WORD, bit >>> 6) & (1L << bit)) != 0;
+    }
+
+    // Bulk load of precomputed tile collision words (see SceneCache); objects are added afterwards
+    void loadTileBits(long[] words) {
+        int count = (int) Math.min(words.length, blocked.byteSize() / Long.BYTES);
+        MemorySegment.copy(words, 0, blocked, WORD, 0, count);
+    }
+
+    // Frees the bits if they were allocated off-heap here; called with SceneTile.release
+    void release() {
+        if (arena != null && arena.scope().isAlive()) {
+            arena.close();
+        }
+    }
+
+    // Called by SceneTile after the tile at (x, y) changed
+    public void refreshTile(int x, int y) {
+        refresh(x, y);
+    }
+
+    public void addObject(InteractiveObject obj) {
+        if (obj.isCollidable()) {
+            coverFootprint(obj, 1);
+        }
+    }
+
+    public void removeObject(InteractiveObject obj) {
+        if (obj.isCollidable()) {
+            coverFootprint(obj, -1);
+        }
+    }
+
+    private void coverFootprint(InteractiveObject obj, int delta) {
+        int startX = Math.max(0, obj.getTileX());
+        int startY = Math.max(0, obj.getTileY());
+        int endX = Math.min(cols, obj.getTileX() + obj.getWidthInTiles());
+        int endY = Math.min(rows, obj.getTileY() + obj.getHeightInTiles());
+
+        for (int y = startY; y < endY; y++) {
+            for (int x = startX; x < endX; x++) {
+                objectCover.merge(y * cols + x, delta, (a, b) -> a + b == 0 ? null : a + b);
+                refresh(x, y);
+            }
+        }
+    }
+
+    private void refresh(int x, int y) {
+        int bit = y * cols + x;
+        boolean isBlocked = objectCover.containsKey(bit) || scene.isCollidable(x, y);
+        long word = blocked.getAtIndex(WORD, bit >>> 6);
+        word = isBlocked ? word | (1L << bit) : word & ~(1L << bit);
+        blocked.setAtIndex(WORD, bit >>> 6, word);
+    }
+}
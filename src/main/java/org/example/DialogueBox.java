@@ -5,9 +5,6 @@ import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-import javax.imageio.ImageIO;
 
 public class DialogueBox extends JPanel {
     private BufferedImage dialogueBoxImage;
@@ -15,6 +12,7 @@ public class DialogueBox extends JPanel {
     private boolean imageLoaded = false;
     private String currentText = "";
     private String currentSpeaker = ""; // Speaker name
+    private String speakerLabel = "";
     private final JPanel parentPanel;
 
     private int boxWidth;
@@ -33,8 +31,8 @@ public class DialogueBox extends JPanel {
 
         loadDialogueBoxImage();
 
-        dialogueFont = loadCustomFont().deriveFont(16f);
-        speakerFont = loadCustomFont().deriveFont(Font.BOLD, 24f); // Bold and slightly larger for speaker
+        dialogueFont = FontRegistry.get(16f);
+        speakerFont = FontRegistry.get(Font.BOLD, 24f); // Bold and slightly larger for speaker
         textColor = new Color(111, 78, 55);
         speakerColor = new Color(80, 50, 30); // Darker color for speaker name
 
@@ -46,10 +44,9 @@ public class DialogueBox extends JPanel {
 
     private void loadDialogueBoxImage() {
         try {
-            InputStream is = getClass().getClassLoader().getResourceAsStream("assets/image/dialogue.png");
-            if (is != null) {
-                dialogueBoxImage = ImageIO.read(is);
-                is.close();
+            BufferedImage image = ImageLoader.loadOriginalImage("assets/image/dialogue.png");
+            if (image != null) {
+                dialogueBoxImage = image;
                 imageLoaded = true;
             } else {
                 dialogueBoxImage = createFallbackDialogueBox();
@@ -101,6 +98,7 @@ public class DialogueBox extends JPanel {
 
     public void showDialogue(String speaker, String text) {
         this.currentSpeaker = speaker;
+        this.speakerLabel = speaker + ":";
         this.currentText = text;
         this.isVisible = true;
         updateDialogueBoxSize();
@@ -148,37 +146,16 @@ public class DialogueBox extends JPanel {
         int textStartX = 50;
         if (currentSpeaker != null && !currentSpeaker.isEmpty()) {
             g.setColor(speakerColor);
-            g.setFont(speakerFont);
-            g.drawString(currentSpeaker + ":", textStartX, y);
+            TextLayoutCache.get(g, speakerLabel, speakerFont, 0).drawLine(g, 0, textStartX, y);
             y += lineHeight + 5; // Extra space after speaker name
         }
 
         g.setColor(textColor);
-        g.setFont(dialogueFont);
 
-        String[] words = currentText.split(" ");
-        StringBuilder currentLine = new StringBuilder();
-
-        for (String word : words) {
-            String testLine = currentLine + (!currentLine.isEmpty() ? " " : "") + word;
-            int testWidth;
-            testWidth = g.getFontMetrics().stringWidth(testLine);
-
-            if (testWidth > boxWidth - (textPadding * 2)) {
-                g.drawString(currentLine.toString(), textStartX, y);
-                currentLine = new StringBuilder(word);
-                y += lineHeight;
-
-                if (y > boxHeight - textPadding) {
-                    break;
-                }
-            } else {
-                currentLine.append(!currentLine.isEmpty() ? " " : "").append(word);
-            }
-        }
-
-        if (!currentLine.isEmpty() && y <= boxHeight - textPadding) {
-            g.drawString(currentLine.toString(), textStartX, y);
+        TextLayoutCache.Block block = TextLayoutCache.get(g, currentText, dialogueFont, boxWidth - (textPadding * 2));
+        for (int i = 0; i < block.getLineCount() && y <= boxHeight - textPadding; i++) {
+            block.drawLine(g, i, textStartX, y);
+            y += lineHeight;
         }
     }
 
@@ -191,21 +168,4 @@ public class DialogueBox extends JPanel {
     public boolean isDialogueVisible() {
         return isVisible;
     }
-
-    private Font loadCustomFont() {
-        try {
-            InputStream is = getClass().getClassLoader().getResourceAsStream("assets/font/customFont.ttf");
-            if (is != null) {
-                Font customFont = Font.createFont(Font.TRUETYPE_FONT, is);
-                is.close();
-                return customFont.deriveFont(Font.PLAIN, 16f);
-            } else {
-                System.err.println("Custom font not found in resources: assets/font/customFont.ttf");
-                return new Font("Arial", Font.PLAIN, 16);
-            }
-        } catch (FontFormatException | IOException e) {
-            System.err.println("Error loading custom font: " + e.getMessage());
-            return new Font("Arial", Font.PLAIN, 16);
-        }
-    }
 }
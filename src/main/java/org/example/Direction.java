@@ -0,0 +1,34 @@
+package org.example;
+
+// Facing directions. The order matches the player sprite sheets packed into the texture atlas.
+public enum Direction {
+    DOWN(0, 1),
+    UP(0, -1),
+    LEFT(-1, 0),
+    RIGHT(1, 0);
+
+    private static final Direction[] VALUES = values();
+
+    private final int dx;
+    private final int dy;
+
+    Direction(int dx, int dy) {
+        this.dx = dx;
+        this.dy = dy;
+    }
+
+    public int getDx() { return dx; }
+    public int getDy() { return dy; }
+
+    public static int count() {
+        return VALUES.length;
+    }
+
+    public static Direction fromDelta(int dx, int dy) {
+        if (dx > 0) return RIGHT;
+        if (dx < 0) return LEFT;
+        if (dy > 0) return DOWN;
+        if (dy < 0) return UP;
+        return null;
+    }
+}
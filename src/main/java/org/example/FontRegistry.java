@@ -0,0 +1,62 @@
+package org.example;
+
+import java.awt.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// The custom UI font, parsed from the .ttf once on first use. Every size/style the UI asks for is derived
+// once and cached, so screens and paint code get the same Font instance back instead of re-parsing the
+// file or calling deriveFont per frame. Falls back to Arial at the requested style and size when the
+// font can't be loaded.
+public class FontRegistry {
+    public static final String CUSTOM_FONT_PATH = "assets/font/customFont.ttf";
+
+    private record Key(int style, float size) {}
+
+    private static final Font baseFont = loadBaseFont();
+    private static final Map<Key, Font> fonts = new ConcurrentHashMap<>();
+
+    public static Font get(float size) {
+        return get(Font.PLAIN, size);
+    }
+
+    public static Font get(int style, float size) {
+        return fonts.computeIfAbsent(new Key(style, size), key -> baseFont != null
+                ? baseFont.deriveFont(key.style(), key.size())
+                : new Font("Arial", key.style(), Math.round(key.size())));
+    }
+
+    // The parsed font at its default 1pt size, or null when it couldn't be loaded
+    public static Font getBaseFont() {
+        return baseFont;
+    }
+
+    public static boolean isCustomFontLoaded() {
+        return baseFont != null;
+    }
+
+    private static Font loadBaseFont() {
+        long start = System.nanoTime();
+        Font font = null;
+
+        try (InputStream is = AssetPack.open(CUSTOM_FONT_PATH)) {
+            if (is != null) {
+                font = Font.createFont(Font.TRUETYPE_FONT, is);
+            }
+        } catch (FontFormatException | IOException e) {
+            System.err.println("Error loading custom font: " + e.getMessage());
+            return null;
+        }
+
+        if (font == null) {
+            System.err.println("Custom font not found: " + CUSTOM_FONT_PATH + ", using Arial");
+            return null;
+        }
+
+        GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(font);
+        System.out.printf("Custom font loaded in %.1f ms%n", (System.nanoTime() - start) / 1_000_000.0);
+        return font;
+    }
+}
@@ -0,0 +1,131 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Nanosecond timings per frame phase. Each phase adds to a per-frame total (ticks can run several
+// times in one frame); beginFrame() publishes those totals into fixed-size ring buffers that can be
+// read from any thread without locking.
+public class FrameProfiler {
+    public enum Phase {
+        UPDATE_UI_STATE("updateUIState"),
+        UPDATE_GAME_STATE("updateGameState"),
+        DRAW_WORLD("drawWorld"),
+        DRAW_EXIT_DOORS("drawExitDoors"),
+        DRAW_INTERACTIVE_OBJECTS("drawInteractiveObjects"),
+        DRAW_PLAYER("drawPlayer"),
+        PAINT_CHILDREN("paintChildren");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    public static final int HISTORY = 256;
+
+    private static final Phase[] PHASES = Phase.values();
+
+    // Single writer (the EDT), any number of readers
+    public static class Histogram {
+        private final AtomicLongArray samples = new AtomicLongArray(HISTORY);
+        private final AtomicLong count = new AtomicLong();
+
+        void record(long nanos) {
+            long index = count.get();
+            samples.set((int) (index % HISTORY), nanos);
+            count.lazySet(index + 1);
+        }
+
+        public int size() {
+            return (int) Math.min(count.get(), HISTORY);
+        }
+
+        // Oldest first
+        public long[] snapshot() {
+            long total = count.get();
+            int size = (int) Math.min(total, HISTORY);
+            long[] copy = new long[size];
+            for (int i = 0; i < size; i++) {
+                copy[i] = samples.get((int) ((total - size + i) % HISTORY));
+            }
+            return copy;
+        }
+
+        public long percentile(double p) {
+            long[] sorted = snapshot();
+            if (sorted.length == 0) {
+                return 0;
+            }
+            Arrays.sort(sorted);
+            return sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * p) - 1)];
+        }
+
+        public long average() {
+            long[] values = snapshot();
+            if (values.length == 0) {
+                return 0;
+            }
+            long sum = 0;
+            for (long value : values) {
+                sum += value;
+            }
+            return sum / values.length;
+        }
+    }
+
+    private final Histogram[] phaseHistograms = new Histogram[PHASES.length];
+    private final Histogram frameHistogram = new Histogram();
+    private final long[] currentFrame = new long[PHASES.length];
+    private long frameStart = 0;
+    private volatile boolean overlayVisible = GameConfig.PROFILER_OVERLAY;
+
+    public FrameProfiler() {
+        for (int i = 0; i < phaseHistograms.length; i++) {
+            phaseHistograms[i] = new Histogram();
+        }
+    }
+
+    // Closes the previous frame; its length is the time between consecutive beginFrame calls
+    public void beginFrame() {
+        long now = System.nanoTime();
+        if (frameStart != 0) {
+            frameHistogram.record(now - frameStart);
+            for (int i = 0; i < currentFrame.length; i++) {
+                phaseHistograms[i].record(currentFrame[i]);
+                currentFrame[i] = 0;
+            }
+        }
+        frameStart = now;
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public void end(Phase phase, long startNanos) {
+        currentFrame[phase.ordinal()] += System.nanoTime() - startNanos;
+    }
+
+    public Histogram getHistogram(Phase phase) {
+        return phaseHistograms[phase.ordinal()];
+    }
+
+    public Histogram getFrameHistogram() {
+        return frameHistogram;
+    }
+
+    public boolean isOverlayVisible() {
+        return overlayVisible;
+    }
+
+    public void toggleOverlay() {
+        overlayVisible = !overlayVisible;
+    }
+}
@@ -41,6 +41,7 @@ public class Game extends JFrame {
 
         setVisible(true);
 
+        gamePanel.startActiveRendering(this);
         gamePanel.requestFocusInWindow();
     }
 }
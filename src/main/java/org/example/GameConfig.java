@@ -0,0 +1,54 @@
+package org.example;
+
+import java.nio.file.Path;
+
+public class GameConfig {
+    // Launch with -Dmagellan.activeRendering=true to drive the game from GameLoop instead of the Swing timer
+    public static final boolean ACTIVE_RENDERING = Boolean.getBoolean("magellan.activeRendering");
+
+    // Frames per second the active loop aims for; 0 or -Dmagellan.uncapped=true renders as fast as possible
+    public static final int TARGET_FPS = Integer.getInteger("magellan.targetFps", 60);
+    public static final boolean UNCAPPED = Boolean.getBoolean("magellan.uncapped") || TARGET_FPS <= 0;
+
+    // Simulation ticks per second; rendering interpolates between ticks
+    public static final int TICK_RATE = Integer.getInteger("magellan.tickRate", 60);
+
+    // Prints which cached images are not in the screen's pixel format once loading is done
+    public static final boolean IMAGE_DIAGNOSTICS = Boolean.getBoolean("magellan.imageDiagnostics");
+
+    // Directory to write the packed texture atlas pages and layout to, for inspection
+    public static final String ATLAS_DUMP_DIR = System.getProperty("magellan.atlasDump");
+
+    // Shows the frame profiler overlay from startup; F3 toggles it either way
+    public static final boolean PROFILER_OVERLAY = Boolean.getBoolean("magellan.profiler");
+
+    // true/false forces scene tiles off-heap/on-heap; unset picks off-heap only for very large scenes
+    public static final Boolean OFF_HEAP_TILES = System.getProperty("magellan.offHeapTiles") == null
+            ? null : Boolean.getBoolean("magellan.offHeapTiles");
+
+    // Directory checked for sceneN.scene files before the classpath's assets/scenes
+    public static final String SCENE_DIR = System.getProperty("magellan.sceneDir");
+
+    // Memory the scene cache may hold on to for built scenes and their backgrounds; 0 disables it
+    public static final int SCENE_CACHE_MB = Integer.getInteger("magellan.sceneCacheMb", 64);
+
+    // Decoded image pixels ImageLoader keeps resident before evicting the least recently used
+    public static final int IMAGE_CACHE_MB = Integer.getInteger("magellan.imageCacheMb", 64);
+
+    // Evicted images stay reachable through soft references until the GC needs the memory
+    public static final boolean IMAGE_SOFT_CACHE =
+            Boolean.parseBoolean(System.getProperty("magellan.imageSoftCache", "true"));
+
+    // Asset pack to read from instead of the classpath's assets.pack (see AssetPack)
+    public static final String ASSET_PACK = System.getProperty("magellan.assetPack");
+
+    // Decoded pixels are kept on disk (see PixelCache) so later starts skip PNG decoding
+    public static final boolean PIXEL_CACHE =
+            Boolean.parseBoolean(System.getProperty("magellan.pixelCache", "true"));
+    public static final String PIXEL_CACHE_DIR = System.getProperty("magellan.pixelCacheDir",
+            Path.of(System.getProperty("user.home"), ".magellan", "pixel-cache").toString());
+    // Disk the pixel cache may use; the least recently used files are deleted past it
+    public static final int PIXEL_CACHE_MB = Integer.getInteger("magellan.pixelCacheMb", 256);
+
+    private GameConfig() {}
+}
@@ -0,0 +1,112 @@
+package org.example;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.locks.LockSupport;
+
+public class GameLoop implements Runnable {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long SPIN_THRESHOLD = 1_000_000L; // last millisecond before a frame is yielded, not parked
+    private static final int MAX_FRAMES_BEHIND = 5;
+
+    private final GamePanel gamePanel;
+    private final BufferStrategy bufferStrategy;
+    private final long frameNanos;
+    private final Runnable frameTask = this::runFrame;
+
+    private Thread thread;
+    private volatile boolean running = false;
+
+    public GameLoop(GamePanel gamePanel, BufferStrategy bufferStrategy, int targetFps, boolean uncapped) {
+        this.gamePanel = gamePanel;
+        this.bufferStrategy = bufferStrategy;
+        this.frameNanos = uncapped ? 0 : NANOS_PER_SECOND / targetFps;
+    }
+
+    public void start() {
+        if (running) return;
+
+        running = true;
+        thread = new Thread(this, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+
+        System.out.println("Active rendering started: " +
+                (frameNanos == 0 ? "uncapped" : (NANOS_PER_SECOND / frameNanos) + " fps target"));
+    }
+
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        long nextFrame = System.nanoTime();
+
+        while (running) {
+            try {
+                // Game state is only ever touched on the EDT, so the frame itself runs there;
+                // this thread just decides when the next one starts.
+                EventQueue.invokeAndWait(frameTask);
+            } catch (InterruptedException e) {
+                break;
+            } catch (InvocationTargetException e) {
+                System.err.println("Error in game loop frame: " + e.getCause());
+                e.getCause().printStackTrace();
+            }
+
+            if (frameNanos == 0) {
+                Thread.yield();
+                continue;
+            }
+
+            nextFrame += frameNanos;
+            long now = System.nanoTime();
+            if (now - nextFrame > frameNanos * MAX_FRAMES_BEHIND) {
+                // Fell too far behind (debugger, GC, window drag): resync instead of bursting frames
+                nextFrame = now;
+            }
+            waitUntil(nextFrame);
+        }
+    }
+
+    private void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0 && running) {
+            if (remaining > SPIN_THRESHOLD) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD);
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    private void runFrame() {
+        if (!running) return;
+
+        gamePanel.updateGameState();
+
+        do {
+            do {
+                Graphics g = bufferStrategy.getDrawGraphics();
+                try {
+                    gamePanel.renderFrame(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (bufferStrategy.contentsRestored());
+
+            bufferStrategy.show();
+        } while (bufferStrategy.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -10,7 +10,6 @@ import java.util.ArrayList;
 public class GamePanel extends JPanel implements KeyListener {
     private Player player;
     private Camera camera;
-    private SceneTile sceneTile;
     private MapOverlay mapOverlay;
     private DialogueBox dialogueBox;
 
@@ -23,20 +22,40 @@ public class GamePanel extends JPanel implements KeyListener {
     private CollisionDetector collisionDetector;
     private GameStateManager gameStateManager;
     private TitleScreen titleScreen;
+    private final FrameProfiler frameProfiler = new FrameProfiler();
 
     private InteractiveObject[] interactiveObjects;
+    private ObjectSpatialIndex objectIndex;
+    private InteractionMap interactionMap;
+    private SceneTile objectsScene; // scene whose collision map holds the current objects' footprints
     private final int viewportCols;
     private final int viewportRows;
 
     private SceneManager sceneManager;
 
+    private Timer gameTimer;
+    private GameLoop gameLoop;
+
     public GamePanel(int viewportCols, int viewportRows) {
+        this(viewportCols, viewportRows, true);
+    }
+
+    // startLoop is false for RenderBenchmark, which drives rendering itself without a window
+    GamePanel(int viewportCols, int viewportRows, boolean startLoop) {
         this.viewportCols = viewportCols;
         this.viewportRows = viewportRows;
 
         initializeGame();
         setupUI(); // This must be called before initializeInteractiveObjects()
-        startGameLoop();
+        if (startLoop) {
+            startGameLoop();
+        }
+
+        if (GameConfig.IMAGE_DIAGNOSTICS) {
+            ImageLoader.reportIncompatibleImages();
+            ImageLoader.reportCacheStats();
+            ObjectImageLoader.reportLoadCounts();
+        }
     }
 
     private void initializeGame() {
@@ -59,10 +78,11 @@ public class GamePanel extends JPanel implements KeyListener {
         add(narrativeScreen);
 
         TileType.preloadAll();
+        ObjectImageLoader.preloadAll();
 
         // THEN INITIALIZE SCENE MANAGER
         sceneManager = new SceneManager(this);
-        sceneTile = sceneManager.getCurrentScene();
+        SceneTile sceneTile = sceneManager.getCurrentScene();
 
         int sceneCols = sceneTile.getCols();
         int sceneRows = sceneTile.getRows();
@@ -76,6 +96,8 @@ public class GamePanel extends JPanel implements KeyListener {
 
         System.out.println("Player starting at: " + startX + ", " + startY);
 
+        refreshSpriteScale();
+
         camera = new Camera(viewportCols, viewportRows);
 
         mapOverlay = new MapOverlay(this);
@@ -97,6 +119,13 @@ public class GamePanel extends JPanel implements KeyListener {
         });
     }
 
+    // Sprites and the atlas are kept at on-screen size; only a new tile size or multiplier rebuilds them
+    private void refreshSpriteScale() {
+        if (SpriteCache.setScale(Game.TILE_SIZE, player.getSizeMultiplier()) || TextureAtlas.get() == null) {
+            TextureAtlas.build(player.getDirectionFrames());
+        }
+    }
+
     private void setupUI() {
         uiManager = new UIManager(this);
 
@@ -113,10 +142,10 @@ public class GamePanel extends JPanel implements KeyListener {
     }
 
     private void initializeInteractiveObjects() {
-        interactiveObjects = InteractiveObjectFactory.createSceneObjects(
+        setInteractiveObjects(InteractiveObjectFactory.createSceneObjects(
                 sceneManager.getCurrentSceneIndex(),
-                sceneTile.getCols()
-        );
+                getSceneTile()
+        ));
 
         System.out.println("Created " + interactiveObjects.length + " interactive objects");
 
@@ -127,11 +156,61 @@ public class GamePanel extends JPanel implements KeyListener {
     }
 
     private void startGameLoop() {
-        Timer timer = new Timer(16, e -> {
+        // Active rendering needs a showing window, so it is started later from startActiveRendering
+        if (!GameConfig.ACTIVE_RENDERING) {
+            startTimerLoop();
+        }
+    }
+
+    private void startTimerLoop() {
+        if (gameTimer != null) return;
+
+        gameTimer = new Timer(16, e -> {
             gameStateManager.update();
             repaint();
         });
-        timer.start();
+        gameTimer.start();
+    }
+
+    public void startActiveRendering(Window window) {
+        if (!GameConfig.ACTIVE_RENDERING || gameLoop != null) {
+            return;
+        }
+
+        try {
+            window.setIgnoreRepaint(true);
+            setIgnoreRepaint(true);
+            window.createBufferStrategy(2);
+
+            NullRepaintManager.install();
+            gameLoop = new GameLoop(this, window.getBufferStrategy(),
+                    GameConfig.TARGET_FPS, GameConfig.UNCAPPED);
+            gameLoop.start();
+        } catch (Exception e) {
+            System.err.println("Active rendering unavailable, falling back to Swing timer: " + e.getMessage());
+            RepaintManager.setCurrentManager(null);
+            window.setIgnoreRepaint(false);
+            setIgnoreRepaint(false);
+            gameLoop = null;
+            startTimerLoop();
+        }
+    }
+
+    public void updateGameState() {
+        gameStateManager.update();
+    }
+
+    // Paints one complete frame (world plus Swing overlays) into the active rendering back buffer
+    public void renderFrame(Graphics g) {
+        Point origin = SwingUtilities.convertPoint(this, 0, 0, SwingUtilities.getWindowAncestor(this));
+        Graphics2D g2d = (Graphics2D) g;
+        g2d.translate(origin.x, origin.y);
+        g2d.setClip(0, 0, getWidth(), getHeight());
+
+        g2d.setColor(getBackground());
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+        gameRenderer.drawGame(g2d);
+        paintChildren(g2d);
     }
 
     @Override
@@ -152,6 +231,18 @@ public class GamePanel extends JPanel implements KeyListener {
         }
     }
 
+    @Override
+    protected void paintChildren(Graphics g) {
+        long start = frameProfiler.start();
+        super.paintChildren(g);
+        frameProfiler.end(FrameProfiler.Phase.PAINT_CHILDREN, start);
+
+        // Drawn last so it sits above the dialogue box, minimap and other overlays
+        if (frameProfiler.isOverlayVisible()) {
+            ProfilerOverlay.draw((Graphics2D) g, frameProfiler, getWidth());
+        }
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
@@ -185,7 +276,7 @@ public class GamePanel extends JPanel implements KeyListener {
     public void checkForInteraction() {
         int playerX = player.getTileX();
         int playerY = player.getTileY();
-        String playerDirection = player.getDirection();
+        Direction playerDirection = player.getDirection();
 
         InteractiveObject obj = collisionDetector.getInteractableObjectInFront(playerX, playerY, playerDirection);
         if (obj != null) {
@@ -272,9 +363,6 @@ public class GamePanel extends JPanel implements KeyListener {
 
             if (canTransition) {
                 sceneManager.transitionToNextScene();
-                if (!sceneManager.isWaitingForNarrative()) {
-                    sceneTile = sceneManager.getCurrentScene();
-                }
             } else {
                 // Show appropriate message
                 String message = currentSceneIndex == 0 ?
@@ -297,13 +385,18 @@ public class GamePanel extends JPanel implements KeyListener {
 
         if (isFinished) {
             sceneManager.proceedToNextScene();
-            sceneTile = sceneManager.getCurrentScene();
         }
     }
 
     public void initializeInteractiveObjectsForScene(int sceneIndex) {
+        initializeInteractiveObjectsForScene(sceneIndex,
+                InteractiveObjectFactory.createSceneObjects(sceneIndex, getSceneTile()));
+    }
+
+    // Objects already built for the current scene, e.g. by the scene prefetch
+    public void initializeInteractiveObjectsForScene(int sceneIndex, InteractiveObject[] objects) {
         clearInteractiveObjects();
-        interactiveObjects = InteractiveObjectFactory.createSceneObjects(sceneIndex, sceneTile.getCols());
+        setInteractiveObjects(objects);
 
         // UPDATE INFOBOX WITH CURRENT SCENE
         if (uiManager != null && uiManager.getInfoBox() != null) {
@@ -315,6 +408,7 @@ public class GamePanel extends JPanel implements KeyListener {
     }
 
     private void updateTilesAfterKingDialogue() {
+        SceneTile sceneTile = getSceneTile();
         int sceneCols = sceneTile.getCols();
         int middleStart = sceneCols / 2 - 2;
 
@@ -330,7 +424,16 @@ public class GamePanel extends JPanel implements KeyListener {
 
     public void resetCamera() {
         camera.update(player.getTileX(), player.getTileY(),
-                sceneTile.getCols(), sceneTile.getRows());
+                getSceneTile().getCols(), getSceneTile().getRows());
+        camera.snap();
+    }
+
+    public GameRenderer getGameRenderer() {
+        return gameRenderer;
+    }
+
+    public FrameProfiler getFrameProfiler() {
+        return frameProfiler;
     }
 
     public NarrativeScreen getNarrativeScreen() {
@@ -338,7 +441,26 @@ public class GamePanel extends JPanel implements KeyListener {
     }
 
     public void clearInteractiveObjects() {
-        interactiveObjects = new InteractiveObject[0];
+        setInteractiveObjects(new InteractiveObject[0]);
+    }
+
+    // Rendering, collisions and interaction all go through per-scene lookups built from the objects,
+    // so they are all updated whenever the object set changes
+    private void setInteractiveObjects(InteractiveObject[] objects) {
+        if (objectsScene != null && interactiveObjects != null) {
+            for (InteractiveObject obj : interactiveObjects) {
+                objectsScene.getCollisionMap().removeObject(obj);
+            }
+        }
+
+        objectsScene = getSceneTile();
+        for (InteractiveObject obj : objects) {
+            objectsScene.getCollisionMap().addObject(obj);
+        }
+
+        interactiveObjects = objects;
+        objectIndex = new ObjectSpatialIndex(objects, getSceneTile().getCols(), getSceneTile().getRows());
+        interactionMap = new InteractionMap(objects, getSceneTile().getCols(), getSceneTile().getRows());
     }
 
     @Override
@@ -357,7 +479,7 @@ public class GamePanel extends JPanel implements KeyListener {
     // Getters
     public Player getPlayer() { return player; }
     public Camera getCamera() { return camera; }
-    public SceneTile getSceneTile() { return sceneTile; }
+    public SceneTile getSceneTile() { return sceneManager.getCurrentScene(); }
     public MapOverlay getMapOverlay() { return mapOverlay; }
     public DialogueBox getDialogueBox() { return dialogueBox; }
     public UIManager getUIManager() { return uiManager; }
@@ -365,7 +487,10 @@ public class GamePanel extends JPanel implements KeyListener {
     public CollisionDetector getCollisionDetector() { return collisionDetector; }
     public SettingsPanel getSettingsPanel() { return uiManager.getSettingsPanel(); }
     public InteractiveObject[] getInteractiveObjects() { return interactiveObjects; }
+    public ObjectSpatialIndex getObjectIndex() { return objectIndex; }
+    public InteractionMap getInteractionMap() { return interactionMap; }
     public int getCurrentFps() { return gameStateManager.getCurrentFps(); }
+    public boolean isActiveRendering() { return gameLoop != null && gameLoop.isRunning(); }
     public SceneManager getSceneManager() { return sceneManager; }
     public int getViewportCols() { return viewportCols; }
     public int getViewportRows() { return viewportRows; }
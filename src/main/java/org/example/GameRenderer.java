@@ -4,8 +4,12 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 
 public class GameRenderer {
+    private static final Font FPS_FONT = new Font("Arial", Font.BOLD, 14);
+
     private GamePanel gamePanel;
     private boolean debugPrinted = false;
+    private int shownFps = -1;
+    private String fpsText = "";
 
     public GameRenderer(GamePanel gamePanel) {
         this.gamePanel = gamePanel;
@@ -17,97 +21,63 @@ public class GameRenderer {
         // Only draw world if title and narrative are not visible
         if (!gamePanel.getTitleScreen().isTitleVisible() &&
                 !gamePanel.getNarrativeScreen().isNarrativeVisible()) {
+            FrameProfiler profiler = gamePanel.getFrameProfiler();
+            long start = profiler.start();
             drawWorld(g2d);
+            profiler.end(FrameProfiler.Phase.DRAW_WORLD, start);
+
+            start = profiler.start();
             drawExitDoors(g2d);
+            profiler.end(FrameProfiler.Phase.DRAW_EXIT_DOORS, start);
+
+            start = profiler.start();
             drawInteractiveObjects(g2d);
+            profiler.end(FrameProfiler.Phase.DRAW_INTERACTIVE_OBJECTS, start);
+
+            start = profiler.start();
             drawPlayer(g2d);
+            profiler.end(FrameProfiler.Phase.DRAW_PLAYER, start);
+
             drawFPS(g2d);
         }
     }
 
     private void drawWorld(Graphics2D g) {
-        int cameraX = gamePanel.getCamera().getX();
-        int cameraY = gamePanel.getCamera().getY();
-        int tileSize = Game.TILE_SIZE;
+        int cameraX = gamePanel.getCamera().getPixelX();
+        int cameraY = gamePanel.getCamera().getPixelY();
 
         if (gamePanel.getSceneTile().usesBackgroundImage()) {
-            drawBackgroundImageAsObject(g, cameraX, cameraY, tileSize);
+            drawBackgroundImageAsObject(g, cameraX, cameraY);
             return;
         }
 
         Rectangle visibleArea = gamePanel.getCamera().getVisibleWorldArea();
-
-        for (int worldX = visibleArea.x; worldX < visibleArea.x + visibleArea.width; worldX++) {
-            for (int worldY = visibleArea.y; worldY < visibleArea.y + visibleArea.height; worldY++) {
-                if (worldX >= 0 && worldX < gamePanel.getSceneTile().getCols() &&
-                        worldY >= 0 && worldY < gamePanel.getSceneTile().getRows()) {
-
-                    int screenX = (worldX - cameraX) * tileSize;
-                    int screenY = (worldY - cameraY) * tileSize;
-
-                    TileType tile = gamePanel.getSceneTile().getTile(worldX, worldY);
-
-                    if (tile == TileType.DOOR) {
-                        continue;
-                    }
-
-                    if (tile != null) {
-                        BufferedImage tileImage = tile.getImage();
-                        if (tileImage != null) {
-                            g.drawImage(tileImage, screenX, screenY, null);
-                        } else {
-                            drawFallbackTile(g, tile, screenX, screenY);
-                        }
-                    }
-                }
-            }
-        }
+        gamePanel.getSceneTile().getChunkCache().drawBaseLayer(g, visibleArea, cameraX, cameraY);
     }
 
     private void drawExitDoors(Graphics2D g) {
-        int cameraX = gamePanel.getCamera().getX();
-        int cameraY = gamePanel.getCamera().getY();
-        int tileSize = Game.TILE_SIZE;
+        int cameraX = gamePanel.getCamera().getPixelX();
+        int cameraY = gamePanel.getCamera().getPixelY();
 
         Rectangle visibleArea = gamePanel.getCamera().getVisibleWorldArea();
-
-        for (int worldX = visibleArea.x; worldX < visibleArea.x + visibleArea.width; worldX++) {
-            for (int worldY = visibleArea.y; worldY < visibleArea.y + visibleArea.height; worldY++) {
-                if (worldX >= 0 && worldX < gamePanel.getSceneTile().getCols() &&
-                        worldY >= 0 && worldY < gamePanel.getSceneTile().getRows()) {
-
-                    TileType tile = gamePanel.getSceneTile().getTile(worldX, worldY);
-
-                    if (tile == TileType.DOOR) {
-                        int screenX = (worldX - cameraX) * tileSize;
-                        int screenY = (worldY - cameraY) * tileSize;
-
-                        BufferedImage tileImage = tile.getImage();
-                        if (tileImage != null) {
-                            g.drawImage(tileImage, screenX, screenY, null);
-                        } else {
-                            drawFallbackTile(g, tile, screenX, screenY);
-                        }
-                    }
-                }
-            }
-        }
+        gamePanel.getSceneTile().getChunkCache().drawDoorLayer(g, visibleArea, cameraX, cameraY);
     }
 
-    private void drawBackgroundImageAsObject(Graphics2D g, int cameraX, int cameraY, int tileSize) {
+    private void drawBackgroundImageAsObject(Graphics2D g, int cameraX, int cameraY) {
         BufferedImage bgImage = gamePanel.getSceneTile().getBackgroundImage();
         if (bgImage != null) {
 
-            int sceneCols = gamePanel.getSceneTile().getCols();
-            int sceneRows = gamePanel.getSceneTile().getRows();
-
-            int scenePixelWidth = sceneCols * tileSize;
-            int scenePixelHeight = sceneRows * tileSize;
+            // The background is already scene-sized, so copy just the part under the camera 1:1
+            int srcX1 = Math.max(0, cameraX);
+            int srcY1 = Math.max(0, cameraY);
+            int srcX2 = Math.min(bgImage.getWidth(), cameraX + gamePanel.getWidth());
+            int srcY2 = Math.min(bgImage.getHeight(), cameraY + gamePanel.getHeight());
 
-            int screenX = (0 - cameraX) * tileSize;
-            int screenY = (0 - cameraY) * tileSize;
-
-            g.drawImage(bgImage, screenX, screenY, scenePixelWidth, scenePixelHeight, null);
+            if (srcX2 > srcX1 && srcY2 > srcY1) {
+                g.drawImage(bgImage,
+                        srcX1 - cameraX, srcY1 - cameraY, srcX2 - cameraX, srcY2 - cameraY,
+                        srcX1, srcY1, srcX2, srcY2, null);
+            }
 
         } else {
 
@@ -116,59 +86,36 @@ public class GameRenderer {
         }
     }
 
-    private void drawFallbackTile(Graphics2D g, TileType tile, int x, int y) {
-        Color color = Color.MAGENTA;
-
-        if (tile != null) {
-            color = switch (tile) {
-                case GRASS -> Color.GREEN;
-                case WATER -> Color.BLUE;
-                case SAND -> Color.YELLOW;
-                case TILE1 -> Color.GRAY;
-                case TILE2 -> Color.DARK_GRAY;
-                case CARPET_LEFT -> Color.RED;
-                case CARPET_MIDDLE -> Color.RED;
-                case CARPET_RIGHT -> Color.RED;
-                case DOOR -> new Color(139, 69, 19);
-                default -> Color.MAGENTA;
-            };
-        }
+    private void drawInteractiveObjects(Graphics2D g) {
 
-        g.setColor(color);
-        g.fillRect(x, y, Game.TILE_SIZE, Game.TILE_SIZE);
-        g.setColor(Color.BLACK);
-        g.drawRect(x, y, Game.TILE_SIZE, Game.TILE_SIZE);
+        int cameraX = gamePanel.getCamera().getPixelX();
+        int cameraY = gamePanel.getCamera().getPixelY();
+        int tileSize = Game.TILE_SIZE;
+        TextureAtlas atlas = TextureAtlas.get();
 
-        if (tile == TileType.DOOR) {
-            g.setColor(new Color(210, 180, 140));
-            g.fillRect(x + 8, y + 4, Game.TILE_SIZE - 16, Game.TILE_SIZE - 8);
-            g.setColor(Color.BLACK);
-            g.drawRect(x + 8, y + 4, Game.TILE_SIZE - 16, Game.TILE_SIZE - 8);
-        }
-    }
+        // Only objects whose footprint overlaps the visible tiles, so large objects at the edge still draw
+        ObjectSpatialIndex index = gamePanel.getObjectIndex();
+        int count = index.query(gamePanel.getCamera().getVisibleWorldArea());
 
-    private void drawInteractiveObjects(Graphics2D g) {
+        for (int i = 0; i < count; i++) {
+            InteractiveObject obj = index.getResult(i);
+            int screenX = obj.getWorldX() * tileSize - cameraX;
+            int screenY = obj.getWorldY() * tileSize - cameraY;
+            int width = obj.getWidthInTiles() * tileSize;
+            int height = obj.getHeightInTiles() * tileSize;
 
-        int cameraX = gamePanel.getCamera().getX();
-        int cameraY = gamePanel.getCamera().getY();
-        int tileSize = Game.TILE_SIZE;
+            if (atlas != null && atlas.drawObject(g, obj.getType(), screenX, screenY, width, height)) {
+                continue;
+            }
 
-        for (InteractiveObject obj : gamePanel.getInteractiveObjects()) {
-            if (gamePanel.getCamera().isVisible(obj.getTileX(), obj.getTileY())) {
-                int screenX = (obj.getWorldX() - cameraX) * tileSize;
-                int screenY = (obj.getWorldY() - cameraY) * tileSize;
-                int width = obj.getWidthInTiles() * tileSize;
-                int height = obj.getHeightInTiles() * tileSize;
-
-                if (obj.getObjectImage() != null) {
-                    g.drawImage(obj.getObjectImage(), screenX, screenY, width, height, null);
-                } else {
-
-                    g.setColor(Color.ORANGE);
-                    g.fillRect(screenX, screenY, width, height);
-                    g.setColor(Color.BLACK);
-                    g.drawRect(screenX, screenY, width, height);
-                }
+            if (obj.getObjectImage() != null) {
+                g.drawImage(SpriteCache.getObjectSprite(obj.getObjectImage(), obj.getType()), screenX, screenY, null);
+            } else {
+
+                g.setColor(Color.ORANGE);
+                g.fillRect(screenX, screenY, width, height);
+                g.setColor(Color.BLACK);
+                g.drawRect(screenX, screenY, width, height);
             }
         }
     }
@@ -178,8 +125,14 @@ public class GameRenderer {
     }
 
     private void drawFPS(Graphics2D g) {
+        // The counter changes once a second, so the label is only rebuilt then
+        int fps = gamePanel.getCurrentFps();
+        if (fps != shownFps) {
+            shownFps = fps;
+            fpsText = "FPS: " + fps;
+        }
+
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 14));
-        g.drawString("FPS: " + gamePanel.getCurrentFps(), 10, gamePanel.getHeight() - 30);
+        TextLayoutCache.get(g, fpsText, FPS_FONT, 0).drawLine(g, 0, 10, gamePanel.getHeight() - 30);
     }
 }
@@ -1,26 +1,78 @@
 package org.example;
 
 public class GameStateManager {
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long MAX_FRAME_TIME = 250 * NANOS_PER_MILLI;
+    private static final int MAX_TICKS_PER_FRAME = 5;
+
     private GamePanel gamePanel;
-    private long lastFpsTime = 0;
+    private long lastFpsTime = 0; // nanos
     private int fps = 0;
     private int currentFps = 0;
-    private long lastMoveTime = 0;
-    private final long MOVE_DELAY = 75;
+    private final long MOVE_DELAY = 75 * NANOS_PER_MILLI;
+    private long lastMoveTime = -MOVE_DELAY;
+
+    private final long tickLength;
+    private long lastUpdateTime = 0;
+    private long accumulator = 0;
+    private long simulationTime = 0;
+    private float interpolationAlpha = 1f;
 
     public GameStateManager(GamePanel gamePanel) {
         this.gamePanel = gamePanel;
+        this.tickLength = 1_000_000_000L / GameConfig.TICK_RATE;
     }
 
+    // Called once per rendered frame; the simulation itself advances in fixed ticks
     public void update() {
+        long currentTime = System.nanoTime();
+        if (lastUpdateTime == 0) {
+            lastUpdateTime = currentTime - tickLength;
+        }
+
+        // Clamp long frames (GC, window drag) so we never try to catch up on seconds of ticks
+        long frameTime = Math.min(currentTime - lastUpdateTime, MAX_FRAME_TIME);
+        lastUpdateTime = currentTime;
+
+        gamePanel.getFrameProfiler().beginFrame();
         updateFPS();
+
+        accumulator += frameTime;
+        int ticks = 0;
+        while (accumulator >= tickLength && ticks < MAX_TICKS_PER_FRAME) {
+            tick();
+            accumulator -= tickLength;
+            ticks++;
+        }
+
+        if (accumulator >= tickLength) {
+            // Still behind after the per-frame budget: drop the backlog instead of spiralling
+            accumulator %= tickLength;
+        }
+
+        interpolationAlpha = (float) accumulator / tickLength;
+        gamePanel.getPlayer().interpolate(interpolationAlpha);
+        gamePanel.getCamera().interpolate(interpolationAlpha);
+    }
+
+    private void tick() {
+        simulationTime += tickLength;
+        gamePanel.getPlayer().storePreviousPosition();
+        gamePanel.getCamera().storePreviousPosition();
+
+        FrameProfiler profiler = gamePanel.getFrameProfiler();
+        long start = profiler.start();
         updateUIState();
+        profiler.end(FrameProfiler.Phase.UPDATE_UI_STATE, start);
+
+        start = profiler.start();
         updateGameState();
+        profiler.end(FrameProfiler.Phase.UPDATE_GAME_STATE, start);
     }
 
     private void updateFPS() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastFpsTime >= 1000) {
+        long currentTime = System.nanoTime();
+        if (currentTime - lastFpsTime >= 1_000_000_000L) {
             currentFps = fps;
             fps = 0;
             lastFpsTime = currentTime;
@@ -70,8 +122,7 @@ public class GameStateManager {
     }
 
     private void processPlayerMovement() {
-        long currentTime = System.currentTimeMillis();
-        boolean canMove = (currentTime - lastMoveTime) >= MOVE_DELAY;
+        boolean canMove = (simulationTime - lastMoveTime) >= MOVE_DELAY;
 
         int[] direction = gamePanel.getInputHandler().getMovementDirection();
         int dx = direction[0];
@@ -83,8 +134,8 @@ public class GameStateManager {
 
             if (gamePanel.getCollisionDetector().isValidPosition(newX, newY)) {
                 gamePanel.getPlayer().setMoving(true, dx, dy);
-                gamePanel.getPlayer().move(dx, dy, gamePanel.getSceneTile().getTiles());
-                lastMoveTime = currentTime;
+                gamePanel.getPlayer().move(dx, dy, gamePanel.getSceneTile().getCollisionMap());
+                lastMoveTime = simulationTime;
             }
         } else if (dx == 0 && dy == 0) {
             gamePanel.getPlayer().setMoving(false, 0, 0);
@@ -92,7 +143,7 @@ public class GameStateManager {
     }
 
     private void updatePlayerAndCamera() {
-        gamePanel.getPlayer().updateAnimation();
+        gamePanel.getPlayer().updateAnimation(simulationTime / NANOS_PER_MILLI);
         gamePanel.getCamera().update(
                 gamePanel.getPlayer().getTileX(),
                 gamePanel.getPlayer().getTileY(),
@@ -104,4 +155,8 @@ public class GameStateManager {
     public int getCurrentFps() {
         return currentFps;
     }
+
+    public float getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
 }
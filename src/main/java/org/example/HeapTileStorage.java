@@ -0,0 +1,59 @@
+package org.example;
+
+public class HeapTileStorage implements TileStorage {
+    private byte[] tiles;
+    private long[] exits;
+    private boolean shared = false; // arrays still belong to a SceneCache entry, copied on the first write
+
+    public HeapTileStorage(int tileCount) {
+        tiles = new byte[tileCount];
+        exits = new long[(tileCount + 63) >>> 6];
+    }
+
+    HeapTileStorage(byte[] sharedTiles, long[] sharedExits) {
+        tiles = sharedTiles;
+        exits = sharedExits;
+        shared = true;
+    }
+
+    @Override
+    public byte getTile(int index) {
+        return tiles[index];
+    }
+
+    @Override
+    public void setTile(int index, byte code) {
+        if (shared) {
+            unshare();
+        }
+        tiles[index] = code;
+    }
+
+    @Override
+    public boolean isExit(int index) {
+        return (exits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public void setExit(int index, boolean exit) {
+        if (shared) {
+            unshare();
+        }
+        if (exit) {
+            exits[index >>> 6] |= 1L << index;
+        } else {
+            exits[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    private void unshare() {
+        tiles = tiles.clone();
+        exits = exits.clone();
+        shared = false;
+    }
+
+    @Override
+    public void close() {
+        // Left to the garbage collector
+    }
+}
@@ -4,49 +4,276 @@ package org.example;
 import java.awt.*;
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
+// Decoded and scaled images, shared between the EDT, the scene prefetch thread and the loader pool.
+// Each cache entry holds the future of its load, so concurrent requests for the same image wait on the
+// one decode already in flight instead of starting another.
+//
+// Loaded pixels are held to -Dmagellan.imageCacheMb (width * height * bytes per pixel), evicting the least
+// recently used image first. An original is dropped as soon as a scaled copy of it is loaded. Evicted
+// images go to a soft-reference spillover (-Dmagellan.imageSoftCache=false turns it off), so they come back
+// without a decode if the GC has not needed the memory yet. Backgrounds SceneCache holds on to are pinned:
+// they count against its budget instead of this one and are never evicted here, since dropping them would
+// free nothing and only make the next load decode a second copy. Across runs, PixelCache keeps the decoded and
+// scaled pixels on disk.
 public class ImageLoader {
-    private static Map<String, BufferedImage> images = new HashMap<>();
-    private static Map<String, BufferedImage> scaledImages = new HashMap<>();
+    // width and height are 0 for the original, decoded image
+    private record ImageKey(String path, int width, int height) {
+        boolean isOriginal() {
+            return width == 0 && height == 0;
+        }
+    }
+
+    private static final class CacheEntry {
+        final CompletableFuture<BufferedImage> future = new CompletableFuture<>();
+        volatile long lastUsed = useClock.incrementAndGet();
+        long bytes = 0; // counted in residentBytes once loaded, unless pinned; guarded by cacheLock
+        int pins = 0; // guarded by cacheLock
+
+        void touch() {
+            lastUsed = useClock.incrementAndGet();
+        }
+    }
+
+    private static final class PathStats {
+        final LongAdder hits = new LongAdder();
+        final LongAdder softHits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder evictions = new LongAdder();
+    }
+
+    private static final long BUDGET_BYTES = GameConfig.IMAGE_CACHE_MB * 1024L * 1024L;
+
+    private static final AtomicLong useClock = new AtomicLong();
+    private static final Map<ImageKey, CacheEntry> cache = new ConcurrentHashMap<>();
+    private static final Map<ImageKey, SoftReference<BufferedImage>> spilled = new ConcurrentHashMap<>();
+    private static final Map<String, PathStats> stats = new ConcurrentHashMap<>();
+    private static final Object cacheLock = new Object();
+    private static long residentBytes = 0; // guarded by cacheLock
+
+    private static final AtomicInteger loaderThreads = new AtomicInteger();
+    private static final ExecutorService LOADER = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors() / 2), task -> {
+                Thread thread = new Thread(task, "image-loader-" + loaderThreads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
 
     public static BufferedImage loadImage(String path) {
         return loadImage(path, Game.TILE_SIZE, Game.TILE_SIZE);
     }
 
     public static BufferedImage loadImage(String path, int width, int height) {
-        String scaledKey = path + "_" + width + "x" + height;
+        return load(new ImageKey(path, width, height), () -> loadScaled(path, width, height, "scaled",
+                original -> scaleOrPlaceholder(original, width, height)));
+    }
 
-        if (scaledImages.containsKey(scaledKey)) {
-            return scaledImages.get(scaledKey);
-        }
+    public static CompletableFuture<BufferedImage> loadImageAsync(String path, int width, int height) {
+        return loadAsync(new ImageKey(path, width, height), () -> loadScaledAsync(path, width, height, "scaled",
+                original -> scaleOrPlaceholder(original, width, height)));
+    }
 
+    // Backgrounds are scaled once to the exact scene size with the filtering they were drawn with
+    public static BufferedImage loadBackgroundImage(String path, int width, int height) {
+        return load(new ImageKey(path, width, height), () -> loadScaled(path, width, height, "background",
+                original -> scaleBackground(original, width, height)));
+    }
+
+    public static CompletableFuture<BufferedImage> loadBackgroundImageAsync(String path, int width, int height) {
+        return loadAsync(new ImageKey(path, width, height), () -> loadScaledAsync(path, width, height, "background",
+                original -> scaleBackground(original, width, height)));
+    }
+
+    // A scaled copy from the pixel cache skips decoding the original altogether
+    private static BufferedImage loadScaled(String path, int width, int height, String variant,
+                                            UnaryOperator<BufferedImage> scaler) {
+        BufferedImage cached = PixelCache.read(path, width, height, variant);
+        if (cached != null) {
+            return cached;
+        }
         BufferedImage original = loadOriginalImage(path);
-        if (original == null) {
-            return createPlaceholderImage(width, height);
+        return storeScaled(path, width, height, variant, original, scaler.apply(original));
+    }
+
+    private static CompletableFuture<BufferedImage> loadScaledAsync(String path, int width, int height, String variant,
+                                                                    UnaryOperator<BufferedImage> scaler) {
+        return CompletableFuture.supplyAsync(() -> PixelCache.read(path, width, height, variant), LOADER)
+                .thenCompose(cached -> cached != null ? CompletableFuture.completedFuture(cached)
+                        : loadOriginalImageAsync(path).thenApplyAsync(original ->
+                                storeScaled(path, width, height, variant, original, scaler.apply(original)), LOADER));
+    }
+
+    // An image already at the requested size comes back as the original, which is cached under its own key
+    private static BufferedImage storeScaled(String path, int width, int height, String variant,
+                                             BufferedImage original, BufferedImage scaled) {
+        if (scaled != original) {
+            PixelCache.store(path, width, height, variant, scaled);
+        }
+        return scaled;
+    }
+
+    // Returns the decoded, display-compatible image, or null if the resource is missing
+    public static BufferedImage loadOriginalImage(String path) {
+        return load(new ImageKey(path, 0, 0), () -> decode(path));
+    }
+
+    public static CompletableFuture<BufferedImage> loadOriginalImageAsync(String path) {
+        return loadAsync(new ImageKey(path, 0, 0), () -> CompletableFuture.supplyAsync(() -> decode(path), LOADER));
+    }
+
+    // Blocking lookup: the thread that adds the entry does the load itself, everyone else waits for it
+    private static BufferedImage load(ImageKey key, Supplier<BufferedImage> loader) {
+        CacheEntry created = new CacheEntry();
+        CacheEntry entry = acquire(key, created);
+        if (entry == created && !created.future.isDone()) {
+            try {
+                loaded(key, created, loader.get());
+            } catch (Throwable e) {
+                failed(key, created, e);
+            }
+        }
+        return entry.future.join();
+    }
+
+    private static CompletableFuture<BufferedImage> loadAsync(ImageKey key,
+                                                              Supplier<CompletableFuture<BufferedImage>> loader) {
+        CacheEntry created = new CacheEntry();
+        CacheEntry entry = acquire(key, created);
+        if (entry == created && !created.future.isDone()) {
+            loader.get().whenComplete((image, error) -> {
+                if (error == null) {
+                    loaded(key, created, image);
+                } else {
+                    failed(key, created, error);
+                }
+            });
+        }
+        return entry.future;
+    }
+
+    // The existing entry for the key, or `created` once it has been added; `created` comes back already
+    // completed when the image could be taken back from the soft spillover
+    private static CacheEntry acquire(ImageKey key, CacheEntry created) {
+        PathStats pathStats = stats.computeIfAbsent(key.path(), path -> new PathStats());
+        CacheEntry entry = cache.get(key);
+        if (entry == null) {
+            entry = cache.putIfAbsent(key, created);
+        }
+        if (entry != null) {
+            entry.touch();
+            pathStats.hits.increment();
+            return entry;
+        }
+
+        SoftReference<BufferedImage> soft = spilled.remove(key);
+        BufferedImage image = soft != null ? soft.get() : null;
+        if (image != null) {
+            pathStats.softHits.increment();
+            loaded(key, created, image);
+        } else {
+            pathStats.misses.increment();
         }
+        return created;
+    }
 
-        BufferedImage scaledImage = scaleImage(original, width, height);
-        scaledImages.put(scaledKey, scaledImage);
+    private static void loaded(ImageKey key, CacheEntry entry, BufferedImage image) {
+        synchronized (cacheLock) {
+            // Not counted if the entry was cleared while it was loading
+            if (image != null && cache.get(key) == entry) {
+                entry.bytes = imageBytes(image);
+                residentBytes += entry.bytes;
+            }
+        }
+        entry.touch();
+        entry.future.complete(image);
 
-        return scaledImage;
+        synchronized (cacheLock) {
+            // The scaled copy is what gets drawn, so its original is no longer worth the memory
+            ImageKey originalKey = new ImageKey(key.path(), 0, 0);
+            CacheEntry original = key.isOriginal() ? null : cache.get(originalKey);
+            if (original != null && original.bytes > 0) {
+                evict(originalKey);
+            }
+            evictToBudget();
+        }
     }
 
-    private static BufferedImage loadOriginalImage(String path) {
-        if (images.containsKey(path)) {
-            return images.get(path);
+    private static void failed(ImageKey key, CacheEntry entry, Throwable error) {
+        cache.remove(key, entry);
+        entry.future.completeExceptionally(error);
+    }
+
+    private static void evictToBudget() {
+        while (residentBytes > BUDGET_BYTES) {
+            ImageKey eldest = null;
+            long eldestUse = Long.MAX_VALUE;
+            for (Map.Entry<ImageKey, CacheEntry> candidate : cache.entrySet()) {
+                CacheEntry entry = candidate.getValue();
+                if (entry.bytes > 0 && entry.pins == 0 && entry.future.isDone() && entry.lastUsed < eldestUse) {
+                    eldest = candidate.getKey();
+                    eldestUse = entry.lastUsed;
+                }
+            }
+            if (eldest == null || !evict(eldest)) {
+                return;
+            }
+        }
+    }
+
+    // Call with cacheLock held; only entries that have finished loading are evicted
+    private static boolean evict(ImageKey key) {
+        CacheEntry entry = cache.get(key);
+        if (entry == null || !entry.future.isDone() || !cache.remove(key, entry)) {
+            return false;
+        }
+
+        if (entry.pins == 0) {
+            residentBytes -= entry.bytes;
+        }
+        stats.computeIfAbsent(key.path(), path -> new PathStats()).evictions.increment();
+
+        BufferedImage image = loadedImage(entry.future);
+        if (GameConfig.IMAGE_SOFT_CACHE && image != null) {
+            spilled.put(key, new SoftReference<>(image));
+        }
+        return true;
+    }
+
+    // Bytes of pixel data behind the image
+    public static long imageBytes(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+
+    private static BufferedImage decode(String path) {
+        BufferedImage cached = PixelCache.read(path, 0, 0, "original");
+        if (cached != null) {
+            return cached;
         }
 
         try {
-            // Use classpath resource loading instead of File
-            InputStream is = ImageLoader.class.getClassLoader().getResourceAsStream(path);
+            InputStream is = AssetPack.open(path);
             if (is != null) {
-                BufferedImage image = ImageIO.read(is);
-                images.put(path, image);
+                BufferedImage image = toCompatibleImage(ImageIO.read(is));
                 is.close();
+                PixelCache.store(path, 0, 0, "original", image);
                 return image;
             } else {
                 System.err.println("Image not found in resources: " + path);
@@ -59,12 +286,32 @@ public class ImageLoader {
         }
     }
 
+    private static BufferedImage scaleOrPlaceholder(BufferedImage original, int width, int height) {
+        return original == null ? createPlaceholderImage(width, height) : scaleImage(original, width, height);
+    }
+
+    private static BufferedImage scaleBackground(BufferedImage original, int width, int height) {
+        if (original == null) {
+            return null;
+        }
+
+        BufferedImage scaled = createCompatibleImage(width, height, original.getTransparency());
+        Graphics2D g2d = scaled.createGraphics();
+
+        // Same filtering drawImage used when the background was stretched every frame
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2d.drawImage(original, 0, 0, width, height, null);
+        g2d.dispose();
+
+        return scaled;
+    }
+
     private static BufferedImage scaleImage(BufferedImage original, int width, int height) {
         if (original.getWidth() == width && original.getHeight() == height) {
             return original;
         }
 
-        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage scaled = createCompatibleImage(width, height, original.getTransparency());
         Graphics2D g2d = scaled.createGraphics();
 
         g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
@@ -74,8 +321,157 @@ public class ImageLoader {
         return scaled;
     }
 
+    // Images in the screen's native pixel layout stay on Java2D's accelerated blit path
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        if (GraphicsEnvironment.isHeadless()) {
+            int type = transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+            return new BufferedImage(width, height, type);
+        }
+
+        return getDefaultConfiguration().createCompatibleImage(width, height, transparency);
+    }
+
+    // Converts a decoded image (3BYTE_BGR, 4BYTE_ABGR, indexed...) into the screen's pixel layout,
+    // choosing opaque, bitmask or translucent from the pixels actually present
+    public static BufferedImage toCompatibleImage(BufferedImage image) {
+        if (image == null) {
+            return null;
+        }
+
+        int transparency = detectTransparency(image);
+        boolean needlessAlpha = transparency == Transparency.OPAQUE && image.getTransparency() != Transparency.OPAQUE;
+        if (isCompatible(image) && !needlessAlpha) {
+            return image;
+        }
+
+        BufferedImage compatible = createCompatibleImage(image.getWidth(), image.getHeight(), transparency);
+        Graphics2D g2d = compatible.createGraphics();
+        g2d.setComposite(AlphaComposite.Src);
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+
+        return compatible;
+    }
+
+    private static int detectTransparency(BufferedImage image) {
+        if (!image.getColorModel().hasAlpha()) {
+            return Transparency.OPAQUE;
+        }
+
+        boolean hasTransparentPixels = false;
+        int width = image.getWidth();
+        int[] row = new int[width];
+
+        for (int y = 0; y < image.getHeight(); y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int argb : row) {
+                int alpha = argb >>> 24;
+                if (alpha == 0) {
+                    hasTransparentPixels = true;
+                } else if (alpha != 255) {
+                    return Transparency.TRANSLUCENT;
+                }
+            }
+        }
+
+        return hasTransparentPixels ? Transparency.BITMASK : Transparency.OPAQUE;
+    }
+
+    public static boolean isCompatible(BufferedImage image) {
+        if (GraphicsEnvironment.isHeadless()) {
+            int type = image.getType();
+            return image.getTransparency() == Transparency.OPAQUE
+                    ? type == BufferedImage.TYPE_INT_RGB
+                    : type == BufferedImage.TYPE_INT_ARGB;
+        }
+
+        return image.getColorModel().equals(getDefaultConfiguration().getColorModel(image.getTransparency()));
+    }
+
+    private static GraphicsConfiguration getDefaultConfiguration() {
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+    }
+
+    // Diagnostic: cache keys whose images would still need a pixel format conversion on every draw
+    public static List<String> findIncompatibleImages() {
+        List<String> incompatible = new ArrayList<>();
+        for (Map.Entry<ImageKey, CacheEntry> entry : cache.entrySet()) {
+            BufferedImage image = loadedImage(entry.getValue().future);
+            if (image != null && !isCompatible(image)) {
+                incompatible.add(describe(entry.getKey()) + " (type " + image.getType() + ")");
+            }
+        }
+        return incompatible;
+    }
+
+    // The image if its load has finished successfully, without waiting
+    private static BufferedImage loadedImage(CompletableFuture<BufferedImage> future) {
+        return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    private static String describe(ImageKey key) {
+        return key.isOriginal() ? key.path() : key.path() + "_" + key.width() + "x" + key.height();
+    }
+
+    public static void reportIncompatibleImages() {
+        List<String> incompatible = findIncompatibleImages();
+        System.out.println("Image diagnostics: " + cache.size() + " cached, " +
+                incompatible.size() + " not display-compatible");
+        for (String entry : incompatible) {
+            System.out.println("  " + entry);
+        }
+    }
+
+    public static long getResidentBytes() {
+        synchronized (cacheLock) {
+            return residentBytes;
+        }
+    }
+
+    // Lookups answered without a decode (cached or taken back from the soft spillover), 0..1
+    public static double getHitRate() {
+        long hits = 0;
+        long lookups = 0;
+        for (PathStats pathStats : stats.values()) {
+            long answered = pathStats.hits.sum() + pathStats.softHits.sum();
+            hits += answered;
+            lookups += answered + pathStats.misses.sum();
+        }
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    public static long getEvictions() {
+        long evictions = 0;
+        for (PathStats pathStats : stats.values()) {
+            evictions += pathStats.evictions.sum();
+        }
+        return evictions;
+    }
+
+    public static void reportCacheStats() {
+        Map<String, Long> resident = new TreeMap<>();
+        synchronized (cacheLock) {
+            for (Map.Entry<ImageKey, CacheEntry> entry : cache.entrySet()) {
+                resident.merge(entry.getKey().path(), entry.getValue().bytes, Long::sum);
+            }
+        }
+
+        System.out.println(String.format("Image cache: %.1f/%d MB resident, hit rate %.1f%%, %d evictions",
+                getResidentBytes() / (1024.0 * 1024.0), GameConfig.IMAGE_CACHE_MB,
+                getHitRate() * 100, getEvictions()));
+        for (Map.Entry<String, PathStats> entry : new TreeMap<>(stats).entrySet()) {
+            PathStats pathStats = entry.getValue();
+            System.out.println(String.format("  %-45s %7.2f MB  hits %d  soft %d  misses %d  evictions %d",
+                    entry.getKey(), resident.getOrDefault(entry.getKey(), 0L) / (1024.0 * 1024.0),
+                    pathStats.hits.sum(), pathStats.softHits.sum(), pathStats.misses.sum(),
+                    pathStats.evictions.sum()));
+        }
+        System.out.println("Pixel cache: " + PixelCache.getHits() + " hits, " + PixelCache.getMisses() + " misses");
+    }
+
     private static BufferedImage createPlaceholderImage(int width, int height) {
-        BufferedImage placeholder = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        BufferedImage placeholder = createCompatibleImage(width, height, Transparency.OPAQUE);
         Graphics2D g2d = placeholder.createGraphics();
         g2d.setColor(Color.MAGENTA);
         g2d.fillRect(0, 0, width, height);
@@ -85,38 +481,47 @@ public class ImageLoader {
         return placeholder;
     }
 
+    // Decodes and scales the images in parallel on the loader threads, returning once all are cached
     public static void preloadImages(String[] paths) {
-        for (String path : paths) {
-            loadImage(path);
+        CompletableFuture<?>[] loads = new CompletableFuture<?>[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            loads[i] = loadImageAsync(paths[i], Game.TILE_SIZE, Game.TILE_SIZE);
         }
+        CompletableFuture.allOf(loads).join();
     }
 
-    public static void clearCache() {
-        scaledImages.clear();
+    // Keeps a loaded scaled copy out of the budget and out of eviction until releaseScaledImage
+    public static void pinScaledImage(String path, int width, int height) {
+        synchronized (cacheLock) {
+            CacheEntry entry = cache.get(new ImageKey(path, width, height));
+            if (entry != null && entry.future.isDone() && entry.pins++ == 0) {
+                residentBytes -= entry.bytes;
+            }
+        }
     }
 
-    public static BufferedImage loadUnscaledImage(String path) {
-        if (images.containsKey(path)) {
-            return images.get(path);
+    // Evicts one scaled copy, pinned or not, e.g. a background the scene cache has evicted
+    public static void releaseScaledImage(String path, int width, int height) {
+        synchronized (cacheLock) {
+            evict(new ImageKey(path, width, height));
         }
+    }
 
-        try {
-            // Use classpath resource loading
-            InputStream is = ImageLoader.class.getClassLoader().getResourceAsStream(path);
-            if (is != null) {
-                BufferedImage image = ImageIO.read(is);
-                images.put(path, image);
-                is.close();
-                return image;
-            } else {
-                System.err.println("Unscaled image not found in resources: " + path);
-                return createPlaceholderImage();
+    // Evicts every loaded image, originals and scaled copies alike
+    public static void clearCache() {
+        synchronized (cacheLock) {
+            for (ImageKey key : new ArrayList<>(cache.keySet())) {
+                evict(key);
             }
-        } catch (IOException e) {
-            System.err.println("Error loading unscaled image: " + path);
-            e.printStackTrace();
+        }
+    }
+
+    public static BufferedImage loadUnscaledImage(String path) {
+        BufferedImage image = loadOriginalImage(path);
+        if (image == null) {
             return createPlaceholderImage();
         }
+        return image;
     }
 
     private static BufferedImage createPlaceholderImage() {
@@ -3,14 +3,10 @@ package org.example;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
 
 public class InfoBox extends JPanel {
     private JTextArea infoTextArea;
     private JLabel titleLabel;
-    private Font customFont;
 
     private final int WIDTH = 300; // Increased width
     private final int HEIGHT = 200;
@@ -26,9 +22,6 @@ public class InfoBox extends JPanel {
         setLayout(new BorderLayout());
         setPreferredSize(new Dimension(WIDTH, HEIGHT));
 
-        // Load custom font
-        loadCustomFont();
-
         // Create title label
         titleLabel = new JLabel("MISSION INFO", SwingConstants.CENTER);
         titleLabel.setOpaque(true);
@@ -37,11 +30,7 @@ public class InfoBox extends JPanel {
         titleLabel.setBorder(BorderFactory.createEmptyBorder(5, 0, 5, 0));
 
         // Set title font
-        if (customFont != null) {
-            titleLabel.setFont(customFont.deriveFont(Font.BOLD, 16f));
-        } else {
-            titleLabel.setFont(new Font("Arial", Font.BOLD, 16));
-        }
+        titleLabel.setFont(FontRegistry.get(Font.BOLD, 16f));
 
         // Create the text area for mission info
         infoTextArea = new JTextArea();
@@ -51,11 +40,7 @@ public class InfoBox extends JPanel {
         infoTextArea.setAlignmentX(CENTER_ALIGNMENT);
 
         // Set info text font
-        if (customFont != null) {
-            infoTextArea.setFont(customFont.deriveFont(14f));
-        } else {
-            infoTextArea.setFont(new Font("Arial", Font.PLAIN, 14));
-        }
+        infoTextArea.setFont(FontRegistry.get(14f));
 
         infoTextArea.setForeground(Color.BLACK);
         infoTextArea.setOpaque(false);
@@ -77,23 +62,6 @@ public class InfoBox extends JPanel {
         setVisible(true);
     }
 
-    private void loadCustomFont() {
-        try {
-            // REMOVE the file system check and only use classpath resource loading
-            try (InputStream is = getClass().getClassLoader().getResourceAsStream("assets/font/customFont.ttf")) {
-                if (is != null) {
-                    customFont = Font.createFont(Font.TRUETYPE_FONT, is);
-                    System.out.println("Custom font loaded from resources");
-                } else {
-                    System.err.println("Custom font file not found in resources: assets/font/customFont.ttf");
-                }
-            }
-        } catch (FontFormatException | IOException e) {
-            System.err.println("Error loading custom font: " + e.getMessage());
-            customFont = null;
-        }
-    }
-
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
@@ -132,15 +100,11 @@ public class InfoBox extends JPanel {
     }
 
     public Font getCustomFont() {
-        return customFont;
+        return FontRegistry.getBaseFont();
     }
 
     public void setInfoFontSize(float size) {
-        if (customFont != null) {
-            infoTextArea.setFont(customFont.deriveFont(size));
-        } else {
-            infoTextArea.setFont(new Font("Arial", Font.PLAIN, (int)size));
-        }
+        infoTextArea.setFont(FontRegistry.get(size));
     }
 
     public static void setCurrentSceneIndex(int sceneIndex) {
@@ -14,6 +14,12 @@ public class InputHandler {
     public void keyPressed(KeyEvent e) {
         int keyCode = e.getKeyCode();
 
+        if (keyCode == KeyEvent.VK_F3) {
+            gamePanel.getFrameProfiler().toggleOverlay();
+            e.consume();
+            return;
+        }
+
         // Check title screen first
         if (gamePanel.getTitleScreen().isTitleVisible()) {
             handleTitleScreenInput(e);
@@ -0,0 +1,81 @@
+package org.example;
+
+// For every (tile, facing direction) next to an object, the object the player can talk to from there.
+// Only those cells are stored, in an open-addressing table keyed by tile * 4 + direction and holding the
+// object's index + 1, so an E-key lookup is a probe or two however many objects the scene has, and the
+// table grows with the objects' footprints rather than with the scene.
+public class InteractionMap {
+    private final InteractiveObject[] objects;
+    private final int cols;
+    private final int rows;
+    private final long[] keys; // cell + 1, 0 for an empty slot
+    private final int[] entries;
+    private final int mask;
+
+    public InteractionMap(InteractiveObject[] objects, int cols, int rows) {
+        this.objects = objects;
+        this.cols = cols;
+        this.rows = rows;
+
+        long cells = 0;
+        for (InteractiveObject obj : objects) {
+            cells += (long) obj.getWidthInTiles() * obj.getHeightInTiles() * Direction.count();
+        }
+        // At most half full, so probe runs stay short
+        int capacity = Integer.highestOneBit((int) Math.max(8, Math.min(1 << 29, cells * 2)) - 1) << 1;
+        keys = new long[capacity];
+        entries = new int[capacity];
+        mask = capacity - 1;
+
+        for (int i = 0; i < objects.length; i++) {
+            addObject(objects[i], i + 1);
+        }
+    }
+
+    // Every tile one step outside the footprint, facing back into it. Earlier objects win ties,
+    // matching the old scan order.
+    private void addObject(InteractiveObject obj, int entry) {
+        for (int ox = 0; ox < obj.getWidthInTiles(); ox++) {
+            for (int oy = 0; oy < obj.getHeightInTiles(); oy++) {
+                int objX = obj.getTileX() + ox;
+                int objY = obj.getTileY() + oy;
+
+                for (Direction direction : Direction.values()) {
+                    int playerX = objX - direction.getDx();
+                    int playerY = objY - direction.getDy();
+                    if (playerX < 0 || playerX >= cols || playerY < 0 || playerY >= rows) {
+                        continue;
+                    }
+
+                    int slot = find(cell(playerX, playerY, direction));
+                    if (keys[slot] == 0) {
+                        keys[slot] = cell(playerX, playerY, direction) + 1;
+                        entries[slot] = entry;
+                    }
+                }
+            }
+        }
+    }
+
+    public InteractiveObject getObjectFacing(int playerX, int playerY, Direction direction) {
+        if (direction == null || playerX < 0 || playerX >= cols || playerY < 0 || playerY >= rows) {
+            return null;
+        }
+
+        int slot = find(cell(playerX, playerY, direction));
+        return keys[slot] == 0 ? null : objects[entries[slot] - 1];
+    }
+
+    private long cell(int playerX, int playerY, Direction direction) {
+        return ((long) playerY * cols + playerX) * Direction.count() + direction.ordinal();
+    }
+
+    // The slot holding the cell, or the empty slot where it would go
+    private int find(long cell) {
+        int slot = (int) ((cell * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        while (keys[slot] != 0 && keys[slot] != cell + 1) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+}
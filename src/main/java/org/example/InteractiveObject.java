@@ -40,33 +40,32 @@ public class InteractiveObject {
         loadObjectImage();
     }
 
+    // Same object (dialogue, speakers, callback) placed somewhere else
+    public InteractiveObject withPosition(int x, int y) {
+        if (x == worldX && y == worldY) {
+            return this;
+        }
+
+        InteractiveObject moved = new InteractiveObject(x, y, name, dialogues, type);
+        moved.alternatingSpeakers = alternatingSpeakers;
+        moved.onDialogueComplete = onDialogueComplete;
+        return moved;
+    }
+
     private void loadObjectImage() {
         objectImage = ObjectImageLoader.loadImage(type);
         imageLoaded = true;
     }
 
-    public boolean isPlayerFacing(int playerX, int playerY, String playerDirection) {
-        for (int ox = 0; ox < type.getWidthInTiles(); ox++) {
-            for (int oy = 0; oy < type.getHeightInTiles(); oy++) {
-                int objX = worldX + ox;
-                int objY = worldY + oy;
-
-                int dx = objX - playerX;
-                int dy = objY - playerY;
-
-                boolean isAdjacent = (Math.abs(dx) + Math.abs(dy) == 1);
-                if (!isAdjacent) continue;
-
-                return switch (playerDirection) {
-                    case "UP" -> dy == -1;
-                    case "DOWN" -> dy == 1;
-                    case "LEFT" -> dx == -1;
-                    case "RIGHT" -> dx == 1;
-                    default -> false;
-                };
-            }
+    public boolean isPlayerFacing(int playerX, int playerY, Direction playerDirection) {
+        if (playerDirection == null) {
+            return false;
         }
-        return false;
+
+        int targetX = playerX + playerDirection.getDx();
+        int targetY = playerY + playerDirection.getDy();
+        return targetX >= worldX && targetX < worldX + type.getWidthInTiles() &&
+                targetY >= worldY && targetY < worldY + type.getHeightInTiles();
     }
 
     // Dialogue management - KEEP THIS VERSION OF getNextDialogue()
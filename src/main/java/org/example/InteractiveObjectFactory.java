@@ -5,6 +5,32 @@ import java.util.List;
 
 public class InteractiveObjectFactory {
 
+    // Scenes mapped from a scene file take object positions from its object table; dialogue and
+    // callbacks still come from the code below, matched up by order and type
+    public static InteractiveObject[] createSceneObjects(int sceneIndex, SceneTile scene) {
+        InteractiveObject[] objects = createSceneObjects(sceneIndex, scene.getCols());
+        int[] placements = scene.getObjectPlacements();
+        if (placements == null || sceneIndex < 0) {
+            // Index -1 is the first scene behind the title screen, which has no objects until it is entered
+            return objects;
+        }
+
+        ObjectType[] types = ObjectType.values();
+        InteractiveObject[] placed = new InteractiveObject[placements.length / 3];
+        for (int i = 0; i < placed.length; i++) {
+            ObjectType type = types[placements[i * 3]];
+            int x = placements[i * 3 + 1];
+            int y = placements[i * 3 + 2];
+
+            if (i < objects.length && objects[i].getType() == type) {
+                placed[i] = objects[i].withPosition(x, y);
+            } else {
+                placed[i] = new InteractiveObject(x, y, type.name(), "...", type);
+            }
+        }
+        return placed;
+    }
+
     public static InteractiveObject[] createSceneObjects(int sceneIndex, int sceneCols) {
         return switch (sceneIndex) {
             case 0 -> createScene0Objects(sceneCols);
@@ -9,6 +9,8 @@ import java.io.InputStream;
 import javax.imageio.ImageIO;
 
 public class MapOverlay extends JPanel {
+    private static final Font LABEL_FONT = new Font("Arial", Font.BOLD, 18);
+
     private BufferedImage mapImage;
     private boolean isFullscreenMode = false;
     private boolean imageLoaded = false;
@@ -39,18 +41,14 @@ public class MapOverlay extends JPanel {
     try {
         // OLD: mapImage = ImageIO.read(new File("assets/image/map.png"));
         // NEW: Use classpath resource loading
-        InputStream is = getClass().getClassLoader().getResourceAsStream("assets/image/map.png");
-        if (is != null) {
-            mapImage = ImageIO.read(is);
-            is.close();
+        mapImage = ImageLoader.loadOriginalImage("assets/image/map.png");
+        if (mapImage != null) {
             imageLoaded = true;
 
-            if (mapImage != null) {
-                imageAspectRatio = (float) mapImage.getWidth() / mapImage.getHeight();
-                System.out.println("Map image loaded: " + mapImage.getWidth() + "x" + mapImage.getHeight() +
-                        " Aspect ratio: " + imageAspectRatio +
-                        " Transparency: " + (mapImage.getTransparency() == BufferedImage.TRANSLUCENT));
-            }
+            imageAspectRatio = (float) mapImage.getWidth() / mapImage.getHeight();
+            System.out.println("Map image loaded: " + mapImage.getWidth() + "x" + mapImage.getHeight() +
+                    " Aspect ratio: " + imageAspectRatio +
+                    " Transparency: " + (mapImage.getTransparency() == BufferedImage.TRANSLUCENT));
         } else {
             System.err.println("Map image not found in resources: assets/image/map.png");
             mapImage = createFallbackMap();
@@ -67,7 +65,7 @@ public class MapOverlay extends JPanel {
 
     private BufferedImage createFallbackMap() {
 
-        BufferedImage fallback = new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage fallback = ImageLoader.createCompatibleImage(800, 600, Transparency.TRANSLUCENT);
         Graphics2D g = fallback.createGraphics();
 
         g.setColor(new Color(30, 30, 70, 200));
@@ -206,7 +204,7 @@ public class MapOverlay extends JPanel {
         g.drawImage(mapImage, x, y, scaledWidth, scaledHeight, null);
 
         g.setColor(Color.YELLOW);
-        g.setFont(new Font("Arial", Font.BOLD, 18));
+        g.setFont(LABEL_FONT);
     }
 
     public void update() {
@@ -3,8 +3,6 @@ package org.example;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.io.File;
-import java.io.InputStream;
 
 public class NarrativeScreen extends JPanel {
     private boolean isVisible = false;
@@ -14,6 +12,7 @@ public class NarrativeScreen extends JPanel {
     private Font continueFont;
     private final Color textColor = new Color(220, 220, 220);
     private final Color continueColor = new Color(255, 215, 0);
+    private static final String CONTINUE_PROMPT = "Press E to continue";
 
     private GamePanel gamePanel;
 
@@ -26,32 +25,10 @@ public class NarrativeScreen extends JPanel {
         setVisible(false);
         setFocusable(false);
 
-        narrativeFont = loadCustomFont().deriveFont(24f);
-        continueFont = loadCustomFont().deriveFont(18f);
+        narrativeFont = FontRegistry.get(24f);
+        continueFont = FontRegistry.get(18f);
     }
 
-    private Font loadCustomFont() {
-    try {
-        // Use ClassLoader for resource loading
-        InputStream fontStream = getClass().getClassLoader()
-                .getResourceAsStream("assets/font/customFont.ttf");
-        if (fontStream != null) {
-            Font customFont = Font.createFont(Font.TRUETYPE_FONT, fontStream);
-            return customFont.deriveFont(Font.PLAIN, 24f);
-        } else {
-            // Fallback to file system
-            File fontFile = new File("assets/font/customFont.ttf");
-            if (fontFile.exists()) {
-                Font customFont = Font.createFont(Font.TRUETYPE_FONT, fontFile);
-                return customFont.deriveFont(Font.PLAIN, 24f);
-            }
-        }
-    } catch (Exception e) {
-        System.err.println("Error loading custom font: " + e.getMessage());
-    }
-    return new Font("Arial", Font.PLAIN, 24);
-}
-
     public void showNarrative(String[] texts) {
         this.narrativeTexts = texts;
         this.currentTextIndex = 0;
@@ -126,64 +103,34 @@ public class NarrativeScreen extends JPanel {
     }
 
     private void drawCenteredText(Graphics2D g) {
-        g.setFont(narrativeFont);
         g.setColor(textColor);
 
         String text = narrativeTexts[currentTextIndex];
+        TextLayoutCache.Block block = TextLayoutCache.get(g, text, narrativeFont, getWidth() - 200);
 
-        String[] words = text.split(" ");
-        java.util.List<String> lines = new java.util.ArrayList<>();
-        StringBuilder currentLine = new StringBuilder();
-
-        FontMetrics fm = g.getFontMetrics();
-        int maxWidth = getWidth() - 200;
-
-        for (String word : words) {
-            String testLine = currentLine + (!currentLine.isEmpty() ? " " : "") + word;
-            int testWidth = fm.stringWidth(testLine);
+        float lineHeight = block.getLineHeight();
+        float totalHeight = block.getLineCount() * lineHeight;
+        float startY = (getHeight() - totalHeight) / 2;
 
-            if (testWidth > maxWidth && !currentLine.isEmpty()) {
-                lines.add(currentLine.toString());
-                currentLine = new StringBuilder(word);
-            } else {
-                currentLine.append(!currentLine.isEmpty() ? " " : "").append(word);
-            }
-        }
-
-        if (!currentLine.isEmpty()) {
-            lines.add(currentLine.toString());
-        }
+        for (int i = 0; i < block.getLineCount(); i++) {
+            float x = (getWidth() - block.getLineWidth(i)) / 2;
+            float y = startY + (i * lineHeight) + block.getAscent();
 
-        int lineHeight = fm.getHeight();
-        int totalHeight = lines.size() * lineHeight;
-        int startY = (getHeight() - totalHeight) / 2;
-
-        for (int i = 0; i < lines.size(); i++) {
-            String line = lines.get(i);
-            int lineWidth = fm.stringWidth(line);
-            int x = (getWidth() - lineWidth) / 2;
-            int y = startY + (i * lineHeight) + fm.getAscent();
-
-            g.drawString(line, x, y);
+            block.drawLine(g, i, x, y);
         }
     }
 
     private void drawContinuePrompt(Graphics2D g) {
-        g.setFont(continueFont);
-        g.setColor(continueColor);
-
-        String prompt = "Press E to continue";
-        FontMetrics fm = g.getFontMetrics();
-        int textWidth = fm.stringWidth(prompt);
+        TextLayoutCache.Block prompt = TextLayoutCache.get(g, CONTINUE_PROMPT, continueFont, 0);
 
-        int x = getWidth() - textWidth - 30;
+        float x = getWidth() - prompt.getLineWidth(0) - 30;
         int y = getHeight() - 30;
 
         long time = System.currentTimeMillis();
         int alpha = (int) (200 + 55 * Math.sin(time / 300.0));
         g.setColor(new Color(255, 215, 0, alpha));
 
-        g.drawString(prompt, x, y);
+        prompt.drawLine(g, 0, x, y);
     }
 
     public boolean isNarrativeVisible() {
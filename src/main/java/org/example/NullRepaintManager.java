@@ -0,0 +1,26 @@
+package org.example;
+
+import javax.swing.*;
+
+// While GameLoop owns the screen every Swing repaint request is dropped; the loop paints the
+// whole component tree itself once per frame. Layout validation still goes through normally.
+public class NullRepaintManager extends RepaintManager {
+
+    public static void install() {
+        NullRepaintManager repaintManager = new NullRepaintManager();
+        repaintManager.setDoubleBufferingEnabled(false);
+        RepaintManager.setCurrentManager(repaintManager);
+    }
+
+    @Override
+    public void addDirtyRegion(JComponent c, int x, int y, int w, int h) {}
+
+    @Override
+    public void addDirtyRegion(java.awt.Window window, int x, int y, int w, int h) {}
+
+    @Override
+    public void markCompletelyDirty(JComponent c) {}
+
+    @Override
+    public void paintDirtyRegions() {}
+}
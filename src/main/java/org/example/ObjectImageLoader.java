@@ -3,22 +3,51 @@ package org.example;
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
 
+// One decoded sprite per ObjectType, shared by every InteractiveObject of that type. Locked on the
+// class because objects are also created on the scene prefetch thread.
 public class ObjectImageLoader {
+    private static final Map<ObjectType, BufferedImage> sprites = new EnumMap<>(ObjectType.class);
+    private static final int[] loadCounts = new int[ObjectType.values().length];
 
-    public static BufferedImage loadImage(ObjectType type) {
-    try {
-        // Use ClassLoader.getResourceAsStream for Maven compatibility
-        InputStream inputStream = ObjectImageLoader.class.getClassLoader()
-                .getResourceAsStream(type.getImagePath());
-        if (inputStream != null) {
-            return ImageIO.read(inputStream);
-        } else {
-            // Fallback to file system for development
-            return ImageIO.read(new File(type.getImagePath()));
+    public static synchronized BufferedImage loadImage(ObjectType type) {
+        BufferedImage sprite = sprites.get(type);
+        if (sprite == null) {
+            sprite = decodeImage(type);
+            sprites.put(type, sprite);
+            loadCounts[type.ordinal()]++;
         }
+        return sprite;
+    }
+
+    public static void preloadAll() {
+        for (ObjectType type : ObjectType.values()) {
+            loadImage(type);
+        }
+    }
+
+    // How many times the type's image was decoded (or its fallback drawn); 1 once it is cached
+    public static synchronized int getLoadCount(ObjectType type) {
+        return loadCounts[type.ordinal()];
+    }
+
+    public static synchronized void reportLoadCounts() {
+        StringBuilder counts = new StringBuilder("Object sprite loads:");
+        for (ObjectType type : ObjectType.values()) {
+            counts.append(' ').append(type.name()).append('=').append(loadCounts[type.ordinal()]);
+        }
+        System.out.println(counts);
+    }
+
+    private static BufferedImage decodeImage(ObjectType type) {
+    try (InputStream inputStream = AssetPack.open(type.getImagePath())) {
+        if (inputStream == null) {
+            return createFallbackImage(type);
+        }
+        return ImageLoader.toCompatibleImage(ImageIO.read(inputStream));
     } catch (Exception e) {
         return createFallbackImage(type);
     }
@@ -28,7 +57,7 @@ public class ObjectImageLoader {
         int pixelWidth = type.getWidthInTiles() * 32;
         int pixelHeight = type.getHeightInTiles() * 32;
 
-        BufferedImage fallback = new BufferedImage(pixelWidth, pixelHeight, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage fallback = ImageLoader.createCompatibleImage(pixelWidth, pixelHeight, Transparency.OPAQUE);
         Graphics2D g = fallback.createGraphics();
 
         Color color = getColorForType(type);
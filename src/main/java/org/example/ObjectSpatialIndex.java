@@ -0,0 +1,118 @@
+package org.example;
+
+import java.awt.*;
+import java.util.Arrays;
+
+// Uniform grid over a scene's interactive objects, one bucket per BUCKET_SIZE x BUCKET_SIZE tiles.
+// An object is listed in every bucket its footprint touches, so a query only visits the buckets under
+// the given area and returns objects whose full footprint intersects it, in their original order.
+public class ObjectSpatialIndex {
+    public static final int BUCKET_SIZE = TileChunkCache.CHUNK_SIZE;
+
+    private final InteractiveObject[] objects;
+    private final int bucketCols;
+    private final int bucketRows;
+    private final int[] bucketStart; // bucket b holds bucketEntries[bucketStart[b] .. bucketStart[b + 1])
+    private final int[] bucketEntries;
+
+    private final int[] lastSeen; // query stamp per object, so objects spanning buckets are returned once
+    private int queryStamp = 0;
+    private int[] results;
+    private int resultCount = 0;
+
+    public ObjectSpatialIndex(InteractiveObject[] objects, int sceneCols, int sceneRows) {
+        this.objects = objects;
+        this.bucketCols = Math.max(1, (sceneCols + BUCKET_SIZE - 1) / BUCKET_SIZE);
+        this.bucketRows = Math.max(1, (sceneRows + BUCKET_SIZE - 1) / BUCKET_SIZE);
+        this.lastSeen = new int[objects.length];
+        this.results = new int[Math.max(16, objects.length)];
+
+        // Two passes (count, then fill) so the buckets end up in one flat array
+        bucketStart = new int[bucketCols * bucketRows + 1];
+        for (InteractiveObject obj : objects) {
+            forEachBucket(obj, bucket -> bucketStart[bucket + 1]++);
+        }
+        for (int b = 0; b < bucketCols * bucketRows; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+
+        bucketEntries = new int[bucketStart[bucketCols * bucketRows]];
+        int[] fill = Arrays.copyOf(bucketStart, bucketStart.length - 1);
+        for (int i = 0; i < objects.length; i++) {
+            int objectIndex = i;
+            forEachBucket(objects[i], bucket -> bucketEntries[fill[bucket]++] = objectIndex);
+        }
+    }
+
+    private interface BucketVisitor {
+        void visit(int bucket);
+    }
+
+    private void forEachBucket(InteractiveObject obj, BucketVisitor visitor) {
+        int firstCol = clampCol(Math.floorDiv(obj.getTileX(), BUCKET_SIZE));
+        int firstRow = clampRow(Math.floorDiv(obj.getTileY(), BUCKET_SIZE));
+        int lastCol = clampCol(Math.floorDiv(obj.getTileX() + obj.getWidthInTiles() - 1, BUCKET_SIZE));
+        int lastRow = clampRow(Math.floorDiv(obj.getTileY() + obj.getHeightInTiles() - 1, BUCKET_SIZE));
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                visitor.visit(row * bucketCols + col);
+            }
+        }
+    }
+
+    // Finds the objects overlapping the tile rectangle; read them back with getResult(0 .. count - 1)
+    public int query(Rectangle area) {
+        resultCount = 0;
+        if (objects.length == 0 || area.width <= 0 || area.height <= 0) {
+            return 0;
+        }
+
+        if (++queryStamp == 0) {
+            Arrays.fill(lastSeen, 0);
+            queryStamp = 1;
+        }
+
+        int areaRight = area.x + area.width;
+        int areaBottom = area.y + area.height;
+        int firstCol = clampCol(Math.floorDiv(area.x, BUCKET_SIZE));
+        int firstRow = clampRow(Math.floorDiv(area.y, BUCKET_SIZE));
+        int lastCol = clampCol(Math.floorDiv(areaRight - 1, BUCKET_SIZE));
+        int lastRow = clampRow(Math.floorDiv(areaBottom - 1, BUCKET_SIZE));
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                int bucket = row * bucketCols + col;
+                for (int e = bucketStart[bucket]; e < bucketStart[bucket + 1]; e++) {
+                    int index = bucketEntries[e];
+                    if (lastSeen[index] == queryStamp) {
+                        continue;
+                    }
+                    lastSeen[index] = queryStamp;
+
+                    InteractiveObject obj = objects[index];
+                    if (obj.getTileX() < areaRight && obj.getTileX() + obj.getWidthInTiles() > area.x &&
+                            obj.getTileY() < areaBottom && obj.getTileY() + obj.getHeightInTiles() > area.y) {
+                        results[resultCount++] = index;
+                    }
+                }
+            }
+        }
+
+        // Keep the scene's draw order when objects overlap
+        Arrays.sort(results, 0, resultCount);
+        return resultCount;
+    }
+
+    public InteractiveObject getResult(int i) {
+        return objects[results[i]];
+    }
+
+    private int clampCol(int col) {
+        return Math.max(0, Math.min(bucketCols - 1, col));
+    }
+
+    private int clampRow(int row) {
+        return Math.max(0, Math.min(bucketRows - 1, row));
+    }
+}
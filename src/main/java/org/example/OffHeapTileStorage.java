@@ -0,0 +1,63 @@
+package org.example;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+// Tile codes and exit bits in native memory owned by an Arena, so a scene of tens of millions of
+// tiles adds nothing for the GC to copy and is freed the moment the scene is released. The arena is
+// shared because scenes may be built on a loader thread and then drawn on the EDT.
+public class OffHeapTileStorage implements TileStorage {
+    // Fixed byte order so exit words mean the same thing in memory and in scene files
+    static final ValueLayout.OfLong WORD = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Arena arena;
+    private final MemorySegment tiles;
+    private final MemorySegment exits;
+
+    public OffHeapTileStorage(long tileCount) {
+        arena = Arena.ofShared();
+        tiles = arena.allocate(tileCount, Long.BYTES);
+        exits = arena.allocate(((tileCount + 63) >>> 6) * Long.BYTES, Long.BYTES);
+        tiles.fill((byte) 0);
+        exits.fill((byte) 0);
+    }
+
+    // Wraps memory the caller already allocated or mapped in the arena; closing frees the whole arena
+    public OffHeapTileStorage(Arena arena, MemorySegment tiles, MemorySegment exits) {
+        this.arena = arena;
+        this.tiles = tiles;
+        this.exits = exits;
+    }
+
+    @Override
+    public byte getTile(int index) {
+        return tiles.get(ValueLayout.JAVA_BYTE, index);
+    }
+
+    @Override
+    public void setTile(int index, byte code) {
+        tiles.set(ValueLayout.JAVA_BYTE, index, code);
+    }
+
+    @Override
+    public boolean isExit(int index) {
+        long word = exits.getAtIndex(WORD, index >>> 6);
+        return (word & (1L << index)) != 0;
+    }
+
+    @Override
+    public void setExit(int index, boolean exit) {
+        long word = exits.getAtIndex(WORD, index >>> 6);
+        word = exit ? word | (1L << index) : word & ~(1L << index);
+        exits.setAtIndex(WORD, index >>> 6, word);
+    }
+
+    @Override
+    public void close() {
+        if (arena.scope().isAlive()) {
+            arena.close();
+        }
+    }
+}
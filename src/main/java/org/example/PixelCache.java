@@ -0,0 +1,290 @@
+package org.example;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+    On-disk cache of decoded images, so a warm start copies raw pixels instead of inflating PNGs.
+    One file per asset, size and variant in -Dmagellan.pixelCacheDir, native byte order:
+
+      0  int   magic "MGPX"          16  int   BufferedImage type (INT_RGB, INT_ARGB or INT_ARGB_PRE)
+      4  short version               20  int   transparency
+      6  short flags (1: big-endian) 24  32 bytes SHA-256 of the source asset
+      8  int   width                 64  width * height int pixels, row-major
+     12  int   height
+
+    A file whose version, byte order or source hash doesn't match is stale: it is ignored and rewritten
+    by the next store, so editing a PNG invalidates every size cached from it. Pixels are copied row by
+    row into the raster of a fresh compatible image rather than wrapping its int[], which would stop
+    Java2D from accelerating it.
+
+    Files are raw pixels - 16 MB for a 2048x2048 background - so on the first read and after every store
+    the directory is trimmed to -Dmagellan.pixelCacheMb, least recently used first (a hit refreshes the
+    file's modification time). Sizes the game no longer asks for age out that way.
+ */
+public class PixelCache {
+    public static final int MAGIC = 0x5850474D; // "MGPX" in little-endian
+    public static final short VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+    private static final int HASH_OFFSET = 24;
+    private static final int HASH_SIZE = 32;
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED;
+    private static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED;
+    private static final short FLAGS = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? (short) 1 : 0;
+
+    private static final String SUFFIX = ".px";
+
+    private static final Path DIRECTORY = GameConfig.PIXEL_CACHE ? Path.of(GameConfig.PIXEL_CACHE_DIR) : null;
+    private static final long BUDGET_BYTES = GameConfig.PIXEL_CACHE_MB * 1024L * 1024L;
+    private static final Object trimLock = new Object();
+    private static final AtomicBoolean trimmedAtStart = new AtomicBoolean();
+    private static final Map<String, byte[]> sourceHashes = new ConcurrentHashMap<>(); // empty array: no source
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    // The cached image, or null on a miss (nothing cached, stale file, or a different screen pixel format).
+    // width and height are 0 for the original, decoded image.
+    public static BufferedImage read(String path, int width, int height, String variant) {
+        if (DIRECTORY == null) {
+            return null;
+        }
+        if (trimmedAtStart.compareAndSet(false, true)) {
+            trim(); // a warm start may never store, and the budget may have been lowered since the last run
+        }
+        byte[] hash = sourceHash(path);
+        if (hash == null) {
+            return null;
+        }
+
+        Path file = DIRECTORY.resolve(fileName(path, width, height, variant));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             Arena arena = Arena.ofConfined()) {
+            MemorySegment data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            BufferedImage image = isCurrent(data, hash) ? copyPixels(data) : null;
+            if (image == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            touch(file);
+            return image;
+        } catch (NoSuchFileException e) {
+            misses.increment();
+            return null;
+        } catch (IOException e) {
+            System.err.println("Error reading pixel cache " + file + ": " + e.getMessage());
+            misses.increment();
+            return null;
+        }
+    }
+
+    // Writes the image for the next start. Only integer-packed layouts are stored; placeholders and
+    // anything without a source asset are skipped.
+    public static void store(String path, int width, int height, String variant, BufferedImage image) {
+        if (DIRECTORY == null || image == null || !isStorable(image.getType())) {
+            return;
+        }
+        byte[] hash = sourceHash(path);
+        if (hash == null) {
+            return;
+        }
+
+        Path file = DIRECTORY.resolve(fileName(path, width, height, variant));
+        try {
+            Files.createDirectories(DIRECTORY);
+            Path temp = Files.createTempFile(DIRECTORY, "pixels-", ".tmp");
+            try {
+                write(temp, image, hash);
+                // Loader threads and other game instances may be writing the same file
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            System.err.println("Error writing pixel cache " + file + ": " + e.getMessage());
+        }
+        trim();
+    }
+
+    // Keeps the least recently used ordering for trim(); another game instance may have just deleted the file
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // Only affects which file is trimmed first
+        }
+    }
+
+    // Deletes the least recently used cache files until the directory fits the budget
+    private static void trim() {
+        synchronized (trimLock) {
+            record CachedFile(Path path, long size, FileTime used) {}
+            List<CachedFile> files = new ArrayList<>();
+            long total = 0;
+
+            try (DirectoryStream<Path> listing = Files.newDirectoryStream(DIRECTORY, "*" + SUFFIX)) {
+                for (Path path : listing) {
+                    try {
+                        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                        files.add(new CachedFile(path, attributes.size(), attributes.lastModifiedTime()));
+                        total += attributes.size();
+                    } catch (NoSuchFileException e) {
+                        // Trimmed by another game instance
+                    }
+                }
+            } catch (NoSuchFileException e) {
+                return; // nothing stored yet
+            } catch (IOException e) {
+                System.err.println("Error listing pixel cache " + DIRECTORY + ": " + e.getMessage());
+                return;
+            }
+            if (total <= BUDGET_BYTES) {
+                return;
+            }
+
+            files.sort(Comparator.comparing(CachedFile::used));
+            for (CachedFile file : files) {
+                if (total <= BUDGET_BYTES) {
+                    break;
+                }
+                try {
+                    Files.deleteIfExists(file.path());
+                    total -= file.size();
+                } catch (IOException e) {
+                    System.err.println("Error trimming pixel cache " + file.path() + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static boolean isCurrent(MemorySegment data, byte[] hash) {
+        if (data.byteSize() < HEADER_SIZE || data.get(INT, 0) != MAGIC
+                || data.get(SHORT, 4) != VERSION || data.get(SHORT, 6) != FLAGS) {
+            return false;
+        }
+        long pixels = (long) data.get(INT, 8) * data.get(INT, 12);
+        byte[] stored = data.asSlice(HASH_OFFSET, HASH_SIZE).toArray(ValueLayout.JAVA_BYTE);
+        return data.byteSize() == HEADER_SIZE + pixels * Integer.BYTES && Arrays.equals(stored, hash);
+    }
+
+    private static BufferedImage copyPixels(MemorySegment data) {
+        int width = data.get(INT, 8);
+        int height = data.get(INT, 12);
+        BufferedImage image = ImageLoader.createCompatibleImage(width, height, data.get(INT, 20));
+        if (image.getType() != data.get(INT, 16)) {
+            return null; // the screen's pixel format changed since the file was written
+        }
+
+        WritableRaster raster = image.getRaster();
+        int[] row = new int[width];
+        long offset = HEADER_SIZE;
+        for (int y = 0; y < height; y++) {
+            MemorySegment.copy(data, INT, offset, row, 0, width);
+            raster.setDataElements(0, y, width, 1, row);
+            offset += (long) width * Integer.BYTES;
+        }
+        return image;
+    }
+
+    private static void write(Path file, BufferedImage image, byte[] hash) throws IOException {
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.nativeOrder());
+        header.putInt(MAGIC).putShort(VERSION).putShort(FLAGS)
+                .putInt(width).putInt(height).putInt(image.getType()).putInt(image.getTransparency())
+                .put(hash);
+        header.clear();
+
+        ByteBuffer rowBytes = ByteBuffer.allocate(width * Integer.BYTES).order(ByteOrder.nativeOrder());
+        int[] row = new int[width];
+        WritableRaster raster = image.getRaster();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header);
+            for (int y = 0; y < height; y++) {
+                raster.getDataElements(0, y, width, 1, row);
+                rowBytes.clear();
+                rowBytes.asIntBuffer().put(row);
+                writeFully(channel, rowBytes);
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static boolean isStorable(int type) {
+        return type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_INT_ARGB
+                || type == BufferedImage.TYPE_INT_ARGB_PRE;
+    }
+
+    // SHA-256 of the asset's bytes, computed once per path; null when the asset doesn't exist
+    private static byte[] sourceHash(String path) {
+        byte[] hash = sourceHashes.computeIfAbsent(path, PixelCache::hashSource);
+        return hash.length == 0 ? null : hash;
+    }
+
+    private static byte[] hashSource(String path) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer packed = AssetPack.get(path);
+            if (packed != null) {
+                digest.update(packed);
+                return digest.digest();
+            }
+
+            try (InputStream is = AssetPack.open(path)) {
+                if (is == null) {
+                    return new byte[0];
+                }
+                return digest.digest(is.readAllBytes());
+            }
+        } catch (IOException | NoSuchAlgorithmException e) {
+            System.err.println("Error hashing " + path + " for the pixel cache: " + e.getMessage());
+            return new byte[0];
+        }
+    }
+
+    private static String fileName(String path, int width, int height, String variant) {
+        return path.replace('/', '_') + "-" + width + "x" + height + "-" + variant + SUFFIX;
+    }
+
+    public static long getHits() {
+        return hits.sum();
+    }
+
+    public static long getMisses() {
+        return misses.sum();
+    }
+}
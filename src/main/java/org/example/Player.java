@@ -2,22 +2,21 @@ package org.example;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
-import java.io.File;
-import java.io.InputStream;
-import javax.imageio.ImageIO;
 
 public class Player {
     private int x, y;
+    private int prevX, prevY;
+    private float renderX, renderY;
     private int width, height;
     private Color color;
     private int speed;
-    private String direction;
+    private Direction direction;
     private boolean isMoving;
 
-    private Map<String, BufferedImage> directionSheets;
-    private Map<String, BufferedImage[]> directionFrames;
+    private Map<Direction, BufferedImage> directionSheets;
+    private Map<Direction, BufferedImage[]> directionFrames;
     private final int COLS = 3;
 
     private int currentFrame = 0;
@@ -30,25 +29,29 @@ public class Player {
     public Player(int startX, int startY) {
         this.x = startX;
         this.y = startY;
+        this.prevX = startX;
+        this.prevY = startY;
+        this.renderX = startX;
+        this.renderY = startY;
         this.width = 1;
         this.height = 1;
         this.color = Color.RED;
         this.speed = 1;
-        this.direction = "DOWN";
+        this.direction = Direction.DOWN;
         this.isMoving = false;
 
         loadAndExtractFrames();
     }
 
     private void loadAndExtractFrames() {
-        directionSheets = new HashMap<>();
-        directionFrames = new HashMap<>();
+        directionSheets = new EnumMap<>(Direction.class);
+        directionFrames = new EnumMap<>(Direction.class);
 
         try {
-            extractDirectionFrames("DOWN", "assets/player/magellanDown.png");
-            extractDirectionFrames("UP", "assets/player/magellanUp.png");
-            extractDirectionFrames("LEFT", "assets/player/magellanLeft.png");
-            extractDirectionFrames("RIGHT", "assets/player/magellanRight.png");
+            extractDirectionFrames(Direction.DOWN, "assets/player/magellanDown.png");
+            extractDirectionFrames(Direction.UP, "assets/player/magellanUp.png");
+            extractDirectionFrames(Direction.LEFT, "assets/player/magellanLeft.png");
+            extractDirectionFrames(Direction.RIGHT, "assets/player/magellanRight.png");
 
         } catch (Exception e) {
             System.err.println("Error loading player frames: " + e.getMessage());
@@ -57,7 +60,7 @@ public class Player {
         }
     }
 
-    private void extractDirectionFrames(String direction, String path) {
+    private void extractDirectionFrames(Direction direction, String path) {
         BufferedImage originalSheet = loadUnscaledImage(path);
         if (originalSheet == null) {
             System.err.println("Failed to load image: " + path);
@@ -72,51 +75,61 @@ public class Player {
 
         for (int col = 0; col < COLS; col++) {
             int x = col * spriteWidth;
-            frames[col] = originalSheet.getSubimage(x, 0, spriteWidth, spriteHeight);
+            // Copy each frame into its own compatible image rather than a sub-raster view of the sheet
+            frames[col] = ImageLoader.toCompatibleImage(
+                    copyFrame(originalSheet.getSubimage(x, 0, spriteWidth, spriteHeight)));
         }
 
         directionFrames.put(direction, frames);
     }
 
+    private BufferedImage copyFrame(BufferedImage region) {
+        BufferedImage frame = ImageLoader.createCompatibleImage(
+                region.getWidth(), region.getHeight(), region.getTransparency());
+        Graphics2D g = frame.createGraphics();
+        g.drawImage(region, 0, 0, null);
+        g.dispose();
+        return frame;
+    }
+
     private BufferedImage loadUnscaledImage(String path) {
-        try {
-            // Try loading from resources (works in JAR)
-            InputStream inputStream = getClass().getClassLoader().getResourceAsStream(path);
-            if (inputStream != null) {
-                return ImageIO.read(inputStream);
-            } else {
-                // Fallback to file system (works in development)
-                return ImageIO.read(new File(path));
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading image: " + path + " - " + e.getMessage());
-            return null;
-        }
+        // ImageLoader hands back the sheet already converted to the screen's pixel format
+        return ImageLoader.loadOriginalImage(path);
     }
 
     public void setMoving(boolean moving, int dx, int dy) {
         this.isMoving = moving;
 
         if (moving) {
-            if (dx > 0) direction = "RIGHT";
-            else if (dx < 0) direction = "LEFT";
-            else if (dy > 0) direction = "DOWN";
-            else if (dy < 0) direction = "UP";
+            Direction newDirection = Direction.fromDelta(dx, dy);
+            if (newDirection != null) {
+                direction = newDirection;
+            }
         }
     }
 
-    public void move(int dx, int dy, TileType[][] worldTiles) {
+    public void move(int dx, int dy, CollisionMap collisionMap) {
         int newX = x + dx * speed;
         int newY = y + dy * speed;
 
-        if (isValidPosition(newX, newY, worldTiles)) {
+        if (!collisionMap.isBlocked(newX, newY)) {
             x = newX;
             y = newY;
         }
     }
 
-    public void updateAnimation() {
-        long currentTime = System.currentTimeMillis();
+    public void storePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+
+    public void interpolate(float alpha) {
+        renderX = prevX + (x - prevX) * alpha;
+        renderY = prevY + (y - prevY) * alpha;
+    }
+
+    // currentTime is simulation time in milliseconds, so animation speed does not depend on frame rate
+    public void updateAnimation(long currentTime) {
 
         if (isMoving) {
             if (currentTime - lastFrameTime > FRAME_DELAY) {
@@ -132,28 +145,13 @@ public class Player {
         }
     }
 
-    private boolean isValidPosition(int tileX, int tileY, TileType[][] worldTiles) {
-
-        if (tileX < 0 || tileX >= worldTiles.length ||
-                tileY < 0 || tileY >= worldTiles[0].length) {
-            return false;
-        }
-
-        TileType tile = worldTiles[tileX][tileY];
-        if (tile != null && tile.isCollidable()) {
-            return false;
-        }
-
-        return true;
-    }
-
     public void draw(Graphics g, Camera camera) {
         if (!camera.isVisible(x, y)) return;
 
-        int viewportX = camera.getViewportX(x) * Game.TILE_SIZE;
-        int viewportY = camera.getViewportY(y) * Game.TILE_SIZE;
+        int viewportX = Math.round(renderX * Game.TILE_SIZE) - camera.getPixelX();
+        int viewportY = Math.round(renderY * Game.TILE_SIZE) - camera.getPixelY();
 
-        int playerSize = (int)(Game.TILE_SIZE * SIZE_MULTIPLIER);
+        int playerSize = SpriteCache.getPlayerSize();
 
         int centeredX = viewportX - (playerSize - Game.TILE_SIZE) / 2;
         int centeredY = viewportY - (playerSize - Game.TILE_SIZE) / 2;
@@ -176,9 +174,14 @@ public class Player {
                 frameIndex = 1;
             }
 
+            TextureAtlas atlas = TextureAtlas.get();
+            if (atlas != null && atlas.drawPlayerFrame(g, direction, frameIndex, x, y, size, size)) {
+                return;
+            }
+
             BufferedImage frame = frames[frameIndex];
             if (frame != null) {
-                g.drawImage(frame, x, y, size, size, null);
+                g.drawImage(SpriteCache.getPlayerSprite(frame), x, y, null);
             }
         }
     }
@@ -189,10 +192,10 @@ public class Player {
 
         g.setColor(Color.YELLOW);
         switch (direction) {
-            case "UP" -> g.fillRect(x + size/2 - 2, y, 4, 3);
-            case "DOWN" -> g.fillRect(x + size/2 - 2, y + size - 3, 4, 3);
-            case "LEFT" -> g.fillRect(x, y + size/2 - 2, 3, 4);
-            case "RIGHT" -> g.fillRect(x + size - 3, y + size/2 - 2, 3, 4);
+            case UP -> g.fillRect(x + size/2 - 2, y, 4, 3);
+            case DOWN -> g.fillRect(x + size/2 - 2, y + size - 3, 4, 3);
+            case LEFT -> g.fillRect(x, y + size/2 - 2, 3, 4);
+            case RIGHT -> g.fillRect(x + size - 3, y + size/2 - 2, 3, 4);
         }
 
         g.setColor(Color.WHITE);
@@ -203,13 +206,21 @@ public class Player {
     public void setPosition(int x, int y) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
+        this.renderX = x;
+        this.renderY = y;
     }
 
     public float getSizeMultiplier() {
         return SIZE_MULTIPLIER;
     }
 
-    public String getDirection() {
+    public Map<Direction, BufferedImage[]> getDirectionFrames() {
+        return directionFrames;
+    }
+
+    public Direction getDirection() {
         return direction;
     }
 
@@ -0,0 +1,76 @@
+package org.example;
+
+import java.awt.*;
+
+// Draws FrameProfiler data in the top-right corner: rolling frame-time graph, frame percentiles and
+// the per-phase breakdown. Toggled with F3 (or on from start with -Dmagellan.profiler=true).
+public class ProfilerOverlay {
+    private static final Font FONT = new Font("Monospaced", Font.PLAIN, 12);
+    private static final Color BACKGROUND = new Color(0, 0, 0, 180);
+    private static final Color BAR = new Color(80, 200, 120);
+    private static final Color SLOW_BAR = new Color(230, 80, 60);
+    private static final Color BUDGET_LINE = new Color(255, 255, 255, 120);
+
+    private static final int WIDTH = 340;
+    private static final int GRAPH_HEIGHT = 60;
+    private static final int LINE_HEIGHT = 14;
+    private static final int MARGIN = 10;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public static void draw(Graphics2D g, FrameProfiler profiler, int panelWidth) {
+        FrameProfiler.Phase[] phases = FrameProfiler.Phase.values();
+        int height = GRAPH_HEIGHT + (phases.length + 6) * LINE_HEIGHT + 20;
+        int x = panelWidth - WIDTH - MARGIN;
+        int y = MARGIN;
+
+        g.setColor(BACKGROUND);
+        g.fillRect(x, y, WIDTH, height);
+
+        long budget = GameConfig.UNCAPPED ? 1_000_000_000L / 60 : 1_000_000_000L / GameConfig.TARGET_FPS;
+        drawGraph(g, profiler.getFrameHistogram().snapshot(), budget, x + 10, y + 10);
+
+        g.setFont(FONT);
+        g.setColor(Color.WHITE);
+        int textY = y + GRAPH_HEIGHT + 10 + LINE_HEIGHT;
+
+        FrameProfiler.Histogram frames = profiler.getFrameHistogram();
+        g.drawString(String.format("frame  p50 %6.2f  p95 %6.2f  p99 %6.2f ms",
+                frames.percentile(0.50) / NANOS_PER_MILLI,
+                frames.percentile(0.95) / NANOS_PER_MILLI,
+                frames.percentile(0.99) / NANOS_PER_MILLI), x + 10, textY);
+        textY += LINE_HEIGHT * 2;
+
+        g.drawString(String.format("%-22s %7s %7s", "phase (ms)", "avg", "p99"), x + 10, textY);
+        for (FrameProfiler.Phase phase : phases) {
+            textY += LINE_HEIGHT;
+            FrameProfiler.Histogram histogram = profiler.getHistogram(phase);
+            g.drawString(String.format("%-22s %7.3f %7.3f", phase.getLabel(),
+                    histogram.average() / NANOS_PER_MILLI,
+                    histogram.percentile(0.99) / NANOS_PER_MILLI), x + 10, textY);
+        }
+
+        textY += LINE_HEIGHT * 2;
+        g.drawString(String.format("scenes %d hit %d miss %d evict  %.1f/%d MB",
+                SceneCache.getHits(), SceneCache.getMisses(), SceneCache.getEvictions(),
+                SceneCache.getCachedBytes() / (1024.0 * 1024.0), GameConfig.SCENE_CACHE_MB), x + 10, textY);
+        textY += LINE_HEIGHT;
+        g.drawString(String.format("images %5.1f%% hit %d evict  %.1f/%d MB",
+                ImageLoader.getHitRate() * 100, ImageLoader.getEvictions(),
+                ImageLoader.getResidentBytes() / (1024.0 * 1024.0), GameConfig.IMAGE_CACHE_MB), x + 10, textY);
+    }
+
+    // One bar per frame, scaled so the frame budget sits at half the graph height
+    private static void drawGraph(Graphics2D g, long[] frameTimes, long budget, int x, int y) {
+        int graphWidth = FrameProfiler.HISTORY;
+        int offset = graphWidth - frameTimes.length;
+
+        for (int i = 0; i < frameTimes.length; i++) {
+            int barHeight = (int) Math.min(GRAPH_HEIGHT, frameTimes[i] * (GRAPH_HEIGHT / 2) / budget);
+            g.setColor(frameTimes[i] > budget ? SLOW_BAR : BAR);
+            g.fillRect(x + offset + i, y + GRAPH_HEIGHT - barHeight, 1, barHeight);
+        }
+
+        g.setColor(BUDGET_LINE);
+        g.drawLine(x, y + GRAPH_HEIGHT / 2, x + graphWidth - 1, y + GRAPH_HEIGHT / 2);
+    }
+}
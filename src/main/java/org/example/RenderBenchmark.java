@@ -0,0 +1,99 @@
+package org.example;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/*
+    Offscreen rendering benchmark, no window required:
+    java -cp MagellanAdventure.jar org.example.RenderBenchmark [width] [height] [frames]
+ */
+public class RenderBenchmark {
+    private static final int WARMUP_FRAMES = 60;
+
+    public static void main(String[] args) throws Exception {
+        if (System.getProperty("java.awt.headless") == null) {
+            System.setProperty("java.awt.headless", "true");
+        }
+
+        int width = args.length > 0 ? Integer.parseInt(args[0]) : 1920;
+        int height = args.length > 1 ? Integer.parseInt(args[1]) : 1080;
+        int frames = args.length > 2 ? Integer.parseInt(args[2]) : 600;
+
+        GamePanel[] holder = new GamePanel[1];
+        SwingUtilities.invokeAndWait(() -> {
+            holder[0] = new GamePanel(width / Game.TILE_SIZE, height / Game.TILE_SIZE, false);
+            holder[0].setBounds(0, 0, width, height);
+        });
+
+        // Second pass so the title screen queued by GamePanel has been shown and can be dismissed
+        SwingUtilities.invokeAndWait(() -> run(holder[0], width, height, frames));
+        System.exit(0);
+    }
+
+    private static void run(GamePanel gamePanel, int width, int height, int frames) {
+        gamePanel.getTitleScreen().hideTitle();
+
+        BufferedImage target = ImageLoader.createCompatibleImage(width, height, Transparency.OPAQUE);
+        SceneManager sceneManager = gamePanel.getSceneManager();
+
+        System.out.println();
+        System.out.println("Render benchmark: " + width + "x" + height + ", " + frames + " frames per scene" +
+                (GraphicsEnvironment.isHeadless() ? " (headless)" : ""));
+        System.out.printf("%-8s %-8s %10s %10s %10s%n", "Scene", "Size", "FPS", "Avg ms", "P99 ms");
+
+        for (int scene = 0; scene < SceneManager.getSceneCount(); scene++) {
+            sceneManager.loadScene(scene);
+            SceneTile sceneTile = gamePanel.getSceneTile();
+
+            for (int i = 0; i < WARMUP_FRAMES; i++) {
+                renderFrame(gamePanel, target, i);
+            }
+
+            long[] frameTimes = new long[frames];
+            long start = System.nanoTime();
+            for (int i = 0; i < frames; i++) {
+                long frameStart = System.nanoTime();
+                renderFrame(gamePanel, target, i);
+                frameTimes[i] = System.nanoTime() - frameStart;
+            }
+            long total = System.nanoTime() - start;
+
+            Arrays.sort(frameTimes);
+            double averageMs = total / 1_000_000.0 / frames;
+            double p99Ms = frameTimes[Math.min(frames - 1, (int) Math.ceil(frames * 0.99) - 1)] / 1_000_000.0;
+            double fps = frames / (total / 1_000_000_000.0);
+
+            System.out.printf("%-8d %-8s %10.1f %10.3f %10.3f%n", scene,
+                    sceneTile.getCols() + "x" + sceneTile.getRows(), fps, averageMs, p99Ms);
+        }
+    }
+
+    // Sweeps the player back and forth across the scene so the camera scrolls through every region
+    private static void renderFrame(GamePanel gamePanel, BufferedImage target, int frame) {
+        SceneTile sceneTile = gamePanel.getSceneTile();
+        gamePanel.getPlayer().setPosition(
+                pingPong(frame, sceneTile.getCols()),
+                pingPong(frame / 2, sceneTile.getRows()));
+        gamePanel.resetCamera();
+
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setColor(gamePanel.getBackground());
+            g.fillRect(0, 0, target.getWidth(), target.getHeight());
+            gamePanel.getGameRenderer().drawGame(g);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private static int pingPong(int step, int length) {
+        if (length <= 1) {
+            return 0;
+        }
+        int period = (length - 1) * 2;
+        int position = step % period;
+        return position < length ? position : period - position;
+    }
+}
@@ -0,0 +1,215 @@
+package org.example;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Snapshots of built scenes (tile codes, exits, collision bits, scaled background) so entering a scene
+// again skips the scene file / SceneN.setup and the background decode. Snapshots with equal content share
+// their arrays and image - SceneThree and SceneFive build the same ship layout - and everything is kept
+// under -Dmagellan.sceneCacheMb, evicting the least recently used scene first. Off-heap scenes (mapped
+// scene files and very large scenes) are never snapshotted: remapping the file is already cheap, and a
+// heap copy would be the garbage off-heap storage exists to avoid. Called from the EDT and the scene
+// prefetch thread.
+public class SceneCache {
+    private static final long BUDGET_BYTES = GameConfig.SCENE_CACHE_MB * 1024L * 1024L;
+
+    private record Entry(int cols, int rows, byte[] tiles, long[] exits, int exitCount, long[] collision,
+                         BufferedImage background, String backgroundPath, int[] objectPlacements, Point spawnPoint) {}
+
+    private static final Map<Integer, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private static long cachedBytes = 0;
+    private static long hits = 0;
+    private static long misses = 0;
+    private static long evictions = 0;
+
+    // A fresh scene built from the cached snapshot, or null on a miss. The caller still attaches it.
+    public static synchronized SceneTile get(int sceneIndex) {
+        Entry entry = entries.get(sceneIndex);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        SceneTile scene = new SceneTile(entry.cols(), entry.rows(),
+                TileStorage.of(entry.cols(), entry.rows(), entry.tiles(), entry.exits()), entry.exitCount());
+        scene.getCollisionMap().loadTileBits(entry.collision());
+        if (entry.background() != null) {
+            scene.setBackgroundImage(entry.background(), entry.backgroundPath());
+        }
+        scene.setObjectPlacements(entry.objectPlacements());
+        if (entry.spawnPoint() != null) {
+            scene.setSpawnPoint(entry.spawnPoint().x, entry.spawnPoint().y);
+        }
+        return scene;
+    }
+
+    // Call right after building the scene, before any objects are added to its collision map
+    public static synchronized void put(int sceneIndex, SceneTile scene) {
+        if (scene.isOffHeap() || estimateBytes(scene) > BUDGET_BYTES) {
+            return;
+        }
+
+        Entry entry = share(snapshot(scene));
+        if (entry.background() != null && !isHeld(entry.background())) {
+            // Counted in this cache's budget from now on, not ImageLoader's
+            ImageLoader.pinScaledImage(entry.backgroundPath(),
+                    entry.background().getWidth(), entry.background().getHeight());
+        }
+
+        Entry replaced = entries.put(sceneIndex, entry);
+        if (replaced != null) {
+            releaseBackground(replaced);
+        }
+        cachedBytes = measure();
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (cachedBytes > BUDGET_BYTES && eldest.hasNext()) {
+            Entry evicted = eldest.next();
+            eldest.remove();
+            evictions++;
+            releaseBackground(evicted);
+            cachedBytes = measure();
+        }
+    }
+
+    // What a snapshot of the scene would add before any sharing, checked before copying anything
+    private static long estimateBytes(SceneTile scene) {
+        long tileCount = (long) scene.getCols() * scene.getRows();
+        long bytes = tileCount + 2 * ((tileCount + 63) >>> 6) * Long.BYTES;
+        if (scene.getBackgroundImage() != null) {
+            bytes += ImageLoader.imageBytes(scene.getBackgroundImage());
+        }
+        return bytes;
+    }
+
+    private static Entry snapshot(SceneTile scene) {
+        int cols = scene.getCols();
+        int rows = scene.getRows();
+        byte[] tiles = new byte[cols * rows];
+        long[] exits = new long[(tiles.length + 63) >>> 6];
+        long[] collision = new long[exits.length];
+
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                int index = y * cols + x;
+                TileType tile = scene.getTileUnchecked(x, y);
+                if (tile != null) {
+                    tiles[index] = (byte) (tile.ordinal() + 1);
+                    if (tile.isCollidable()) {
+                        collision[index >>> 6] |= 1L << index;
+                    }
+                }
+                if (scene.isExitTileUnchecked(x, y)) {
+                    exits[index >>> 6] |= 1L << index;
+                }
+            }
+        }
+
+        int[] placements = scene.getObjectPlacements();
+        return new Entry(cols, rows, tiles, exits, scene.getExitCount(), collision,
+                scene.getBackgroundImage(), scene.getBackgroundPath(),
+                placements == null ? null : placements.clone(),
+                scene.getSpawnPoint() == null ? null : new Point(scene.getSpawnPoint()));
+    }
+
+    // Swaps in arrays and images already held by another entry when their content is equal
+    private static Entry share(Entry entry) {
+        byte[] tiles = entry.tiles();
+        long[] exits = entry.exits();
+        long[] collision = entry.collision();
+        BufferedImage background = entry.background();
+
+        for (Entry other : entries.values()) {
+            if (other.cols() != entry.cols() || other.rows() != entry.rows()) {
+                continue;
+            }
+            if (Arrays.equals(other.tiles(), tiles)) {
+                tiles = other.tiles();
+            }
+            if (Arrays.equals(other.exits(), exits)) {
+                exits = other.exits();
+            }
+            if (Arrays.equals(other.collision(), collision)) {
+                collision = other.collision();
+            }
+            if (background != null && other.background() != null &&
+                    background.getWidth() == other.background().getWidth() &&
+                    background.getHeight() == other.background().getHeight() &&
+                    background.getType() == other.background().getType() &&
+                    entry.backgroundPath() != null && entry.backgroundPath().equals(other.backgroundPath())) {
+                background = other.background();
+            }
+        }
+
+        return new Entry(entry.cols(), entry.rows(), tiles, exits, entry.exitCount(), collision,
+                background, entry.backgroundPath(), entry.objectPlacements(), entry.spawnPoint());
+    }
+
+    // Shared arrays and images are only counted once
+    private static long measure() {
+        Set<Object> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = 0;
+
+        for (Entry entry : entries.values()) {
+            if (counted.add(entry.tiles())) {
+                bytes += entry.tiles().length;
+            }
+            if (counted.add(entry.exits())) {
+                bytes += (long) entry.exits().length * Long.BYTES;
+            }
+            if (counted.add(entry.collision())) {
+                bytes += (long) entry.collision().length * Long.BYTES;
+            }
+            if (entry.background() != null && counted.add(entry.background())) {
+                bytes += ImageLoader.imageBytes(entry.background());
+            }
+        }
+        return bytes;
+    }
+
+    private static boolean isHeld(BufferedImage background) {
+        for (Entry entry : entries.values()) {
+            if (entry.background() == background) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Lets ImageLoader drop the scaled background too, unless another cached scene still shows it
+    private static void releaseBackground(Entry evicted) {
+        if (evicted.background() == null || isHeld(evicted.background())) {
+            return;
+        }
+        ImageLoader.releaseScaledImage(evicted.backgroundPath(),
+                evicted.background().getWidth(), evicted.background().getHeight());
+    }
+
+    public static synchronized long getHits() {
+        return hits;
+    }
+
+    public static synchronized long getMisses() {
+        return misses;
+    }
+
+    public static synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public static synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    public static synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,37 @@
+package org.example;
+
+import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/*
+    Build step: writes every scene built by the SceneOne..SceneSix setup code to a binary scene file.
+    java -cp target/classes org.example.SceneExporter target/classes/assets/scenes
+ */
+public class SceneExporter {
+    public static void main(String[] args) throws IOException {
+        if (System.getProperty("java.awt.headless") == null) {
+            System.setProperty("java.awt.headless", "true");
+        }
+        // Loading the backgrounds must not fill the build user's pixel cache
+        if (System.getProperty("magellan.pixelCache") == null) {
+            System.setProperty("magellan.pixelCache", "false");
+        }
+
+        Path outputDir = Path.of(args.length > 0 ? args[0] : "target/classes/assets/scenes");
+        int sceneCount = SceneManager.getSceneCount();
+
+        for (int sceneIndex = 0; sceneIndex < sceneCount; sceneIndex++) {
+            SceneTile scene = SceneManager.createProceduralScene(sceneIndex);
+            Point spawn = SceneManager.getDefaultSpawnPoint(sceneIndex);
+            InteractiveObject[] objects = InteractiveObjectFactory.createSceneObjects(sceneIndex, scene.getCols());
+
+            Path file = outputDir.resolve(SceneFile.fileName(sceneIndex));
+            SceneFile.write(file, scene, spawn.x, spawn.y, objects);
+            scene.release();
+
+            System.out.println("Exported scene " + sceneIndex + " (" + scene.getCols() + "x" + scene.getRows() +
+                    ", " + objects.length + " objects) to " + file);
+        }
+    }
+}
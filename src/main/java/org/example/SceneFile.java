@@ -0,0 +1,234 @@
+package org.example;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+    Binary scene layout, little-endian, written by SceneExporter at build time:
+
+      0  int   magic "MGSC"          32  long  tile plane offset       (cols * rows bytes, TileType ordinal + 1)
+      4  short version               40  long  collision plane offset  (1 bit per tile in longs, collidable tiles)
+      6  short flags (unused)        48  long  exit plane offset       (1 bit per tile in longs)
+      8  int   cols                  56  long  object table offset     (objectCount x int type, x, y)
+     12  int   rows                  64  long  background offset       (short length + UTF-8 path, length 0 = none)
+     16  int   spawnX
+     20  int   spawnY
+     24  int   exitCount
+     28  int   objectCount
+
+    Planes start on 8-byte boundaries. Loading maps the file copy-on-write, so the tile, collision and exit
+    planes are used in place (door tiles, objects and exits can still change them at runtime without
+    touching the file).
+ */
+public class SceneFile {
+    public static final int MAGIC = 0x4353474D; // "MGSC" in little-endian
+    public static final short VERSION = 1;
+    public static final String EXTENSION = ".scene";
+
+    private static final int HEADER_SIZE = 72;
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    public static String fileName(int sceneIndex) {
+        return "scene" + sceneIndex + EXTENSION;
+    }
+
+    // Looks in -Dmagellan.sceneDir first, then on the classpath; null when there is no file for the scene
+    public static Path find(int sceneIndex) {
+        String name = fileName(sceneIndex);
+
+        if (GameConfig.SCENE_DIR != null) {
+            Path path = Path.of(GameConfig.SCENE_DIR, name);
+            if (Files.isRegularFile(path)) {
+                return path;
+            }
+        }
+
+        return AssetPack.resourcePath("assets/scenes/" + name, "magellan-" + sceneIndex + "-", EXTENSION);
+    }
+
+    public static SceneTile load(Path path) throws IOException {
+        Arena arena = Arena.ofShared();
+        try {
+            return read(map(path, arena), arena, path);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    // A private mapping needs a writable channel even though the file itself is never written
+    private static MemorySegment map(Path path, Arena arena) throws IOException {
+        if (Files.isWritable(path)) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return channel.map(FileChannel.MapMode.PRIVATE, 0, channel.size(), arena);
+            }
+        }
+
+        // Read-only location: map it and copy into arena memory instead
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             Arena mapping = Arena.ofConfined()) {
+            MemorySegment mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), mapping);
+            return arena.allocate(mapped.byteSize(), Long.BYTES).copyFrom(mapped);
+        }
+    }
+
+    private static SceneTile read(MemorySegment file, Arena arena, Path path) throws IOException {
+        if (file.byteSize() < HEADER_SIZE || file.get(INT, 0) != MAGIC) {
+            throw new IOException("Not a scene file: " + path);
+        }
+        if (file.get(SHORT, 4) != VERSION) {
+            throw new IOException("Unsupported scene file version " + file.get(SHORT, 4) + ": " + path);
+        }
+
+        int cols = file.get(INT, 8);
+        int rows = file.get(INT, 12);
+        int spawnX = file.get(INT, 16);
+        int spawnY = file.get(INT, 20);
+        int exitCount = file.get(INT, 24);
+        int objectCount = file.get(INT, 28);
+        long tileCount = (long) cols * rows;
+        long planeBytes = planeWords(tileCount) * Long.BYTES;
+
+        // Tile indices are ints, so larger scenes can't be addressed even when the file holds them
+        if (cols <= 0 || rows <= 0 || tileCount > Integer.MAX_VALUE) {
+            throw new IOException("Bad scene size " + cols + "x" + rows + ": " + path);
+        }
+        if (spawnX < 0 || spawnX >= cols || spawnY < 0 || spawnY >= rows) {
+            throw new IOException("Spawn point outside the scene: " + path);
+        }
+        if (exitCount < 0 || exitCount > tileCount || objectCount < 0) {
+            throw new IOException("Bad exit or object count: " + path);
+        }
+
+        MemorySegment tiles = slice(file, file.get(LONG, 32), tileCount, 1, "tile plane", path);
+        MemorySegment collision = slice(file, file.get(LONG, 40), planeBytes, Long.BYTES, "collision plane", path);
+        MemorySegment exits = slice(file, file.get(LONG, 48), planeBytes, Long.BYTES, "exit plane", path);
+        long objectsOffset = file.get(LONG, 56);
+        slice(file, objectsOffset, (long) objectCount * 3 * Integer.BYTES, 1, "object table", path);
+        long backgroundOffset = file.get(LONG, 64);
+        slice(file, backgroundOffset, Short.BYTES, 1, "background path", path);
+        int pathLength = Short.toUnsignedInt(file.get(SHORT, backgroundOffset));
+        slice(file, backgroundOffset + Short.BYTES, pathLength, 1, "background path", path);
+
+        int[] placements = new int[objectCount * 3];
+        for (int i = 0; i < placements.length; i++) {
+            placements[i] = file.get(INT, objectsOffset + (long) i * Integer.BYTES);
+        }
+        for (int i = 0; i < placements.length; i += 3) {
+            if (placements[i] < 0 || placements[i] >= ObjectType.values().length) {
+                throw new IOException("Unknown object type " + placements[i] + ": " + path);
+            }
+        }
+
+        SceneTile scene = new SceneTile(cols, rows, new OffHeapTileStorage(arena, tiles, exits), exitCount, collision);
+        scene.setSpawnPoint(spawnX, spawnY);
+        scene.setObjectPlacements(placements);
+
+        if (pathLength > 0) {
+            byte[] bytes = file.asSlice(backgroundOffset + Short.BYTES, pathLength).toArray(ValueLayout.JAVA_BYTE);
+            String background = new String(bytes, StandardCharsets.UTF_8);
+            BufferedImage image = ImageLoader.loadBackgroundImage(background,
+                    cols * Game.TILE_SIZE, rows * Game.TILE_SIZE);
+            if (image != null) {
+                scene.setBackgroundImage(image, background);
+            }
+        }
+
+        return scene;
+    }
+
+    // The section at offset, or an IOException when it runs outside the file or, for planes read a
+    // word at a time, isn't aligned to the word size
+    private static MemorySegment slice(MemorySegment file, long offset, long length, int alignment,
+                                       String section, Path path) throws IOException {
+        if (offset < HEADER_SIZE || length < 0 || offset > file.byteSize() - length || offset % alignment != 0) {
+            throw new IOException("Truncated or corrupt " + section + ": " + path);
+        }
+        return file.asSlice(offset, length);
+    }
+
+    public static void write(Path path, SceneTile scene, int spawnX, int spawnY, InteractiveObject[] objects)
+            throws IOException {
+        int cols = scene.getCols();
+        int rows = scene.getRows();
+        long tileCount = (long) cols * rows;
+        long planeBytes = planeWords(tileCount) * Long.BYTES;
+        byte[] background = scene.getBackgroundPath() == null
+                ? new byte[0] : scene.getBackgroundPath().getBytes(StandardCharsets.UTF_8);
+
+        long tilesOffset = HEADER_SIZE;
+        long collisionOffset = align(tilesOffset + tileCount);
+        long exitsOffset = collisionOffset + planeBytes;
+        long objectsOffset = exitsOffset + planeBytes;
+        long backgroundOffset = objectsOffset + (long) objects.length * 3 * Integer.BYTES;
+        long size = backgroundOffset + Short.BYTES + background.length;
+
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0)
+                .putInt(cols).putInt(rows).putInt(spawnX).putInt(spawnY)
+                .putInt(scene.getExitCount()).putInt(objects.length)
+                .putLong(tilesOffset).putLong(collisionOffset).putLong(exitsOffset)
+                .putLong(objectsOffset).putLong(backgroundOffset);
+
+        long[] collision = new long[(int) planeWords(tileCount)];
+        long[] exits = new long[collision.length];
+        buffer.position((int) tilesOffset);
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                int index = y * cols + x;
+                TileType tile = scene.getTileUnchecked(x, y);
+                buffer.put((byte) (tile == null ? 0 : tile.ordinal() + 1));
+
+                if (tile != null && tile.isCollidable()) {
+                    collision[index >>> 6] |= 1L << index;
+                }
+                if (scene.isExitTileUnchecked(x, y)) {
+                    exits[index >>> 6] |= 1L << index;
+                }
+            }
+        }
+
+        buffer.position((int) collisionOffset);
+        for (long word : collision) {
+            buffer.putLong(word);
+        }
+        for (long word : exits) {
+            buffer.putLong(word);
+        }
+
+        for (InteractiveObject obj : objects) {
+            buffer.putInt(obj.getType().ordinal()).putInt(obj.getTileX()).putInt(obj.getTileY());
+        }
+
+        buffer.putShort((short) background.length).put(background);
+        buffer.flip();
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static long planeWords(long tileCount) {
+        return (tileCount + 63) >>> 6;
+    }
+
+    private static long align(long offset) {
+        return (offset + 7) & ~7L;
+    }
+}
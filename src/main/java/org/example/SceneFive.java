@@ -3,24 +3,25 @@ package org.example;
 import java.awt.image.BufferedImage;
 
 public class SceneFive {
+    private static final String BACKGROUND = "assets/backgrounds/ship.png";
+
     private static SceneTile currentScene;
     private static int exitX = 45;
     private static int exitY = 17;
 
     public static void setup(SceneTile scene) {
-        currentScene = scene;
-
-        BufferedImage bgImage = ImageLoader.loadUnscaledImage("assets/backgrounds/ship.png");
+        BufferedImage bgImage = ImageLoader.loadBackgroundImage(BACKGROUND,
+                scene.getCols() * Game.TILE_SIZE, scene.getRows() * Game.TILE_SIZE);
 
         if (bgImage != null) {
-            scene.setBackgroundImage(bgImage);
+            scene.setBackgroundImage(bgImage, BACKGROUND);
             initializeAllTilesAsWalkable(scene);
             setupCollisionAreas(scene);
         } else {
             System.err.println("Failed to load background image for scene 5, using tile fallback");
             setupFallback(scene);
         }
-        updateExitTile();
+        applyExitTile(scene);
     }
 
     private static void initializeAllTilesAsWalkable(SceneTile scene) {
@@ -92,21 +93,34 @@ public class SceneFive {
         }
     }
 
+    public static void attach(SceneTile scene) {
+        currentScene = scene;
+        updateExitTile();
+    }
+
     public static void updateExitTile() {
         if (currentScene == null) return;
 
-        // Only set exit tile if player has talked to all sailors
-        if (MissionManager.hasTalkedToAllSailors()) {
-            currentScene.setExitTile(exitX, exitY, true);
-            currentScene.setTile(exitX, exitY, TileType.DOOR);
+        if (applyExitTile(currentScene)) {
             System.out.println("Exit tile ENABLED at (" + exitX + ", " + exitY + ") - all sailors talked to!");
         } else {
-            currentScene.setExitTile(exitX, exitY, false);
-            currentScene.setTile(exitX, exitY, TileType.GRASS);
             System.out.println("Exit tile DISABLED - player must talk to all crew members first");
         }
     }
 
+    private static boolean applyExitTile(SceneTile scene) {
+        // Only set exit tile if player has talked to all sailors
+        if (MissionManager.hasTalkedToAllSailors()) {
+            scene.setExitTile(exitX, exitY, true);
+            scene.setTile(exitX, exitY, TileType.DOOR);
+            return true;
+        } else {
+            scene.setExitTile(exitX, exitY, false);
+            scene.setTile(exitX, exitY, TileType.GRASS);
+            return false;
+        }
+    }
+
     private static void setupFallback(SceneTile scene) {
         for (int x = 0; x < scene.getCols(); x++) {
             for (int y = 0; y < scene.getRows(); y++) {
@@ -121,7 +135,7 @@ public class SceneFive {
                 }
             }
         }
-        updateExitTile();
+        applyExitTile(scene);
     }
 
     public static String getCurrentMission() {
@@ -3,21 +3,20 @@ package org.example;
 import java.awt.image.BufferedImage;
 
 public class SceneFour {
+    private static final String BACKGROUND = "assets/backgrounds/island.png";
+
     private static SceneTile currentScene;
     private static int exitX;
     private static int exitY;
 
     public static void setup(SceneTile scene) {
-        currentScene = scene;
-        exitX = scene.getCols() / 2;
-        exitY = 20;
-
-        BufferedImage bgImage = ImageLoader.loadUnscaledImage("assets/backgrounds/island.png");
+        BufferedImage bgImage = ImageLoader.loadBackgroundImage(BACKGROUND,
+                scene.getCols() * Game.TILE_SIZE, scene.getRows() * Game.TILE_SIZE);
 
         if (bgImage != null) {
             System.out.println("Background image loaded for scene 4: " + bgImage.getWidth() + "x" + bgImage.getHeight());
 
-            scene.setBackgroundImage(bgImage);
+            scene.setBackgroundImage(bgImage, BACKGROUND);
             initializeAllTilesAsWalkable(scene);
             setupCollisionAreas(scene);
 
@@ -27,7 +26,8 @@ public class SceneFour {
             setupFallback(scene);
         }
 
-        updateExitTile();
+        // The exitX/exitY statics are only set by attach on the EDT; setup may run on the prefetch thread
+        applyExitTile(scene, scene.getCols() / 2, 20);
     }
 
     private static void initializeAllTilesAsWalkable(SceneTile scene) {
@@ -76,21 +76,36 @@ public class SceneFour {
         }
     }
 
+    public static void attach(SceneTile scene) {
+        currentScene = scene;
+        exitX = scene.getCols() / 2;
+        exitY = 20;
+        updateExitTile();
+    }
+
     public static void updateExitTile() {
         if (currentScene == null) return;
 
-        // Only set exit tile if player has dealt with the mutineers
-        if (MissionManager.hasDealtWithMutineers()) {
-            currentScene.setExitTile(exitX, exitY, true);
-            currentScene.setTile(exitX, exitY, TileType.DOOR);
+        if (applyExitTile(currentScene, exitX, exitY)) {
             System.out.println("Exit tile ENABLED at (" + exitX + ", " + exitY + ") - mutiny resolved!");
         } else {
-            currentScene.setExitTile(exitX, exitY, false);
-            currentScene.setTile(exitX, exitY, TileType.GRASS);
             System.out.println("Exit tile DISABLED - player must confront the mutineers first");
         }
     }
 
+    private static boolean applyExitTile(SceneTile scene, int exitX, int exitY) {
+        // Only set exit tile if player has dealt with the mutineers
+        if (MissionManager.hasDealtWithMutineers()) {
+            scene.setExitTile(exitX, exitY, true);
+            scene.setTile(exitX, exitY, TileType.DOOR);
+            return true;
+        } else {
+            scene.setExitTile(exitX, exitY, false);
+            scene.setTile(exitX, exitY, TileType.GRASS);
+            return false;
+        }
+    }
+
     private static void setupFallback(SceneTile scene) {
         for (int x = 0; x < scene.getCols(); x++) {
             for (int y = 0; y < scene.getRows(); y++) {
@@ -101,7 +116,6 @@ public class SceneFour {
                 }
             }
         }
-        updateExitTile();
     }
 
     public static String getCurrentMission() {
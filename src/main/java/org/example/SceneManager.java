@@ -1,6 +1,13 @@
 package org.example;
 
+import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class SceneManager {
     private GamePanel gamePanel;
@@ -10,6 +17,18 @@ public class SceneManager {
     private boolean gameCompleted = false;
     private boolean hasShownInitialNarrative = false;
 
+    // The next scene is built in the background while its narrative is on screen. Only touched on the EDT.
+    private record PreparedScene(SceneTile scene, InteractiveObject[] objects) {}
+
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "scene-prefetch");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+    private CompletableFuture<PreparedScene> prefetch;
+    private int prefetchIndex = -1;
+
     private static final int[][] SCENE_DIMENSIONS = {
             {21, 30},
             {64, 64},
@@ -83,12 +102,95 @@ public class SceneManager {
             gamePanel.showNarrative(SCENE_NARRATIVES[0]);
             waitingForNarrative = true;
             hasShownInitialNarrative = true;
+            prefetchScene(0);
         }
     }
 
     private void initializeFirstScene() {
-        currentScene = new SceneTile(SCENE_DIMENSIONS[0][0], SCENE_DIMENSIONS[0][1]);
-        SceneOne.setup(currentScene);
+        currentScene = createScene(0);
+        attachScene(0, currentScene);
+    }
+
+    // Reuses the cached copy of the scene when there is one. Also runs on the prefetch thread, so it only
+    // builds: binding the scene class's static state (attachScene) is left to the EDT.
+    private static SceneTile createScene(int sceneIndex) {
+        SceneTile cached = SceneCache.get(sceneIndex);
+        if (cached != null) {
+            return cached;
+        }
+
+        SceneTile scene = buildScene(sceneIndex);
+        SceneCache.put(sceneIndex, scene);
+        return scene;
+    }
+
+    // Maps the scene's exported file when there is one, otherwise builds it in code
+    private static SceneTile buildScene(int sceneIndex) {
+        Path file = SceneFile.find(sceneIndex);
+        if (file != null) {
+            try {
+                SceneTile scene = SceneFile.load(file);
+                System.out.println("Scene " + sceneIndex + " mapped from " + file);
+                return scene;
+            } catch (IOException | RuntimeException e) {
+                // Anything read() didn't catch itself still falls back to building the scene in code
+                System.err.println("Error loading scene file: " + file + " - " + e);
+            }
+        }
+
+        return createProceduralScene(sceneIndex);
+    }
+
+    public static SceneTile createProceduralScene(int sceneIndex) {
+        SceneTile scene = new SceneTile(
+                SCENE_DIMENSIONS[sceneIndex][0],
+                SCENE_DIMENSIONS[sceneIndex][1]
+        );
+
+        switch(sceneIndex) {
+            case 0:
+                SceneOne.setup(scene);
+                break;
+            case 1:
+                SceneTwo.setup(scene);
+                break;
+            case 2:
+                SceneThree.setup(scene);
+                break;
+            case 3:
+                SceneFour.setup(scene);
+                break;
+            case 4:
+                SceneFive.setup(scene);
+                break;
+            case 5:
+                SceneSix.setup(scene);
+                break;
+        }
+        return scene;
+    }
+
+    private static void attachScene(int sceneIndex, SceneTile scene) {
+        switch(sceneIndex) {
+            case 0 -> SceneOne.attach(scene);
+            case 1 -> SceneTwo.attach(scene);
+            case 2 -> SceneThree.attach(scene);
+            case 3 -> SceneFour.attach(scene);
+            case 4 -> SceneFive.attach(scene);
+            case 5 -> SceneSix.attach(scene);
+        }
+    }
+
+    // Where the player starts in each scene
+    public static Point getDefaultSpawnPoint(int sceneIndex) {
+        return switch (sceneIndex) {
+            case 1 -> new Point(25, 45);
+            case 2 -> new Point(25, 20);
+            case 3 -> new Point(24, 20);
+            case 4 -> new Point(25, 15);
+            case 5 -> new Point(32, 32);
+            default -> new Point(SCENE_DIMENSIONS[sceneIndex][0] / 2, SCENE_DIMENSIONS[sceneIndex][1] / 2);
+        };
     }
 
     public void transitionToNextScene() {
@@ -174,6 +276,7 @@ public class SceneManager {
         if (narrativeIndex >= 0 && narrativeIndex < SCENE_NARRATIVES.length) {
             gamePanel.showNarrative(SCENE_NARRATIVES[narrativeIndex]);
             waitingForNarrative = true;
+            prefetchScene(nextSceneIndex);
         } else {
             currentSceneIndex = nextSceneIndex;
             proceedToNextScene();
@@ -190,96 +293,78 @@ public class SceneManager {
 
         // Special case: if we just finished the initial narrative, go to scene 0
         if (currentSceneIndex == -1) {
-            currentSceneIndex = 0;
-            currentScene = new SceneTile(SCENE_DIMENSIONS[0][0], SCENE_DIMENSIONS[0][1]);
-            SceneOne.setup(currentScene);
-
-            // Position player in the throne room
-            gamePanel.getPlayer().setPosition(
-                    SCENE_DIMENSIONS[0][0] / 2,
-                    SCENE_DIMENSIONS[0][1] / 2
-            );
-
-            gamePanel.clearInteractiveObjects();
-            gamePanel.initializeInteractiveObjectsForScene(0);
-            gamePanel.resetCamera();
-
-            // Update mission info
-            InfoBox.setCurrentSceneIndex(0);
-            if (gamePanel.getUIManager() != null && gamePanel.getUIManager().getInfoBox() != null) {
-                gamePanel.getUIManager().getInfoBox().updateMission();
-            }
-
+            loadScene(0);
             return;
         }
 
-        currentSceneIndex++;
-
-        if (currentSceneIndex >= SCENE_DIMENSIONS.length) {
+        if (currentSceneIndex + 1 >= SCENE_DIMENSIONS.length) {
+            currentSceneIndex++;
             exitGame();
             return;
         }
 
-        currentScene = new SceneTile(
-                SCENE_DIMENSIONS[currentSceneIndex][0],
-                SCENE_DIMENSIONS[currentSceneIndex][1]
-        );
+        loadScene(currentSceneIndex + 1);
+    }
 
-        switch(currentSceneIndex) {
-            case 0:
-                SceneOne.setup(currentScene);
-                break;
-            case 1:
-                SceneTwo.setup(currentScene);
-                break;
-            case 2:
-                SceneThree.setup(currentScene);
-                break;
-            case 3:
-                SceneFour.setup(currentScene);
-                break;
-            case 4:
-                SceneFive.setup(currentScene);
-                break;
-            case 5:
-                SceneSix.setup(currentScene);
-                break;
+    // Starts building the scene (tiles, collision bits, scaled background, object sprites) off the EDT
+    private void prefetchScene(int sceneIndex) {
+        discardPrefetch();
+
+        prefetchIndex = sceneIndex;
+        prefetch = CompletableFuture.supplyAsync(() -> {
+            SceneTile scene = createScene(sceneIndex);
+            return new PreparedScene(scene, InteractiveObjectFactory.createSceneObjects(sceneIndex, scene));
+        }, PREFETCH_EXECUTOR);
+    }
+
+    // Waits for the prefetch if it is for this scene and still running; null when there is nothing usable
+    private PreparedScene takePrefetchedScene(int sceneIndex) {
+        if (prefetch == null || prefetchIndex != sceneIndex) {
+            discardPrefetch();
+            return null;
         }
 
-        // Position player appropriately for each scene
-        switch(currentSceneIndex) {
-            case 0:
-                gamePanel.getPlayer().setPosition(
-                        SCENE_DIMENSIONS[currentSceneIndex][0] / 2,
-                        SCENE_DIMENSIONS[currentSceneIndex][1] / 2
-                );
-                break;
-            case 1:
-                gamePanel.getPlayer().setPosition(25, 45);
-                break;
-            case 2:
-                gamePanel.getPlayer().setPosition(25, 20);
-                break;
-            case 3:
-                gamePanel.getPlayer().setPosition(24, 20);
-                break;
-            case 4:
-                gamePanel.getPlayer().setPosition(25, 15);
-                break;
-            case 5:
-                gamePanel.getPlayer().setPosition(32, 32);
-                break;
-            default:
-                gamePanel.getPlayer().setPosition(
-                        SCENE_DIMENSIONS[currentSceneIndex][0] / 2,
-                        SCENE_DIMENSIONS[currentSceneIndex][1] / 2
-                );
-                break;
+        CompletableFuture<PreparedScene> pending = prefetch;
+        prefetch = null;
+        prefetchIndex = -1;
+
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            System.err.println("Error prefetching scene " + sceneIndex + " - " + e.getCause());
+            return null;
         }
+    }
+
+    private void discardPrefetch() {
+        if (prefetch != null) {
+            prefetch.thenAccept(prepared -> prepared.scene().release());
+            prefetch = null;
+            prefetchIndex = -1;
+        }
+    }
+
+    public void loadScene(int sceneIndex) {
+        SceneTile previousScene = currentScene;
+        currentSceneIndex = sceneIndex;
+
+        PreparedScene prepared = takePrefetchedScene(sceneIndex);
+        currentScene = prepared != null ? prepared.scene() : createScene(currentSceneIndex);
+        // Rebind the scene class's static state here on the EDT, with the mission flags as they are now
+        attachScene(currentSceneIndex, currentScene);
+
+        // Position player appropriately for each scene
+        Point spawn = currentScene.getSpawnPoint() != null
+                ? currentScene.getSpawnPoint() : getDefaultSpawnPoint(currentSceneIndex);
+        gamePanel.getPlayer().setPosition(spawn.x, spawn.y);
 
         // Initialize interactive objects for the new scene
         gamePanel.clearInteractiveObjects();
-        gamePanel.initializeInteractiveObjectsForScene(currentSceneIndex);
+        if (prepared != null) {
+            gamePanel.initializeInteractiveObjectsForScene(currentSceneIndex, prepared.objects());
+        } else {
+            gamePanel.initializeInteractiveObjectsForScene(currentSceneIndex);
+        }
 
         // Reset camera to follow player
         gamePanel.resetCamera();
@@ -290,8 +375,19 @@ public class SceneManager {
             gamePanel.getUIManager().getInfoBox().updateMission();
         }
 
+        // Objects have moved over to the new scene, so nothing refers to the old one's tiles any more
+        if (previousScene != null && previousScene != currentScene) {
+            previousScene.release();
+        }
+
         System.out.println("Transitioned to scene " + currentSceneIndex + ": " +
-                SCENE_DIMENSIONS[currentSceneIndex][0] + "x" + SCENE_DIMENSIONS[currentSceneIndex][1]);
+                currentScene.getCols() + "x" + currentScene.getRows() +
+                (currentScene.isOffHeap() ? " (off-heap tiles)" : "") +
+                (prepared != null ? " (prefetched)" : ""));
+    }
+
+    public static int getSceneCount() {
+        return SCENE_DIMENSIONS.length;
     }
 
     private void exitGame() {
@@ -6,8 +6,6 @@ public class SceneOne {
     private static int exitY;
 
     public static void setup(SceneTile scene) {
-        currentScene = scene;
-
         for (int x = 0; x < scene.getCols(); x++) {
             for (int y = 0; y < scene.getRows(); y++) {
                 if ((x + y) % 2 == 0) {
@@ -34,31 +32,49 @@ public class SceneOne {
             }
         }
 
-        // Set the single exit tile in the middle of the carpet at the bottom
-        exitX = sceneCols / 2;
-        exitY = scene.getRows() - 1;
+        // Set the single exit tile in the middle of the carpet at the bottom. Locals, not exitX/exitY:
+        // setup may run on the prefetch thread, and the statics belong to attach on the EDT.
+        int doorX = sceneCols / 2;
+        int doorY = scene.getRows() - 1;
 
         // Don't show as door initially - use carpet tile
-        scene.setTile(exitX, exitY, TileType.CARPET_MIDDLE);
+        scene.setTile(doorX, doorY, TileType.CARPET_MIDDLE);
+
+        applyExitTile(scene, doorX, doorY);
+    }
 
+    // Scene loaded from a scene file: the layout is already there, only the mission-dependent state is applied
+    public static void attach(SceneTile scene) {
+        currentScene = scene;
+        exitX = scene.getCols() / 2;
+        exitY = scene.getRows() - 1;
         updateExitTiles();
     }
 
     public static void updateExitTiles() {
         if (currentScene == null) return;
 
-        // Only enable and show exit tile if player has talked to King Manuel
-        if (MissionManager.hasTalkedToKingManuel()) {
-            currentScene.setTile(exitX, exitY, TileType.DOOR); // Now show as door
-            currentScene.setExitTile(exitX, exitY, true);
+        if (applyExitTile(currentScene, exitX, exitY)) {
             System.out.println("Exit tile ENABLED and VISIBLE at (" + exitX + ", " + exitY + ") - player can leave the throne room!");
         } else {
-            currentScene.setTile(exitX, exitY, TileType.CARPET_MIDDLE); // Keep as carpet
-            currentScene.setExitTile(exitX, exitY, false);
             System.out.println("Exit tile DISABLED and HIDDEN - player must talk to King Manuel first");
         }
     }
 
+    // Sets the exit from the mission flags; setup applies it to a scene that isn't live yet
+    private static boolean applyExitTile(SceneTile scene, int exitX, int exitY) {
+        // Only enable and show exit tile if player has talked to King Manuel
+        if (MissionManager.hasTalkedToKingManuel()) {
+            scene.setTile(exitX, exitY, TileType.DOOR); // Now show as door
+            scene.setExitTile(exitX, exitY, true);
+            return true;
+        } else {
+            scene.setTile(exitX, exitY, TileType.CARPET_MIDDLE); // Keep as carpet
+            scene.setExitTile(exitX, exitY, false);
+            return false;
+        }
+    }
+
     public static void setHasTalkedToKing(boolean talked) {
         MissionManager.setTalkedToKingManuel(talked);
         updateExitTiles(); // Refresh exit tiles immediately
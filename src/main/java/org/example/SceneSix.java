@@ -3,20 +3,20 @@ package org.example;
 import java.awt.image.BufferedImage;
 
 public class SceneSix {
+    private static final String BACKGROUND = "assets/backgrounds/cebu.png";
+
     private static SceneTile currentScene;
     private static int exitX = 0;
     private static int exitY;
 
     public static void setup(SceneTile scene) {
-        currentScene = scene;
-        exitY = scene.getRows() / 2;
-
-        BufferedImage bgImage = ImageLoader.loadUnscaledImage("assets/backgrounds/cebu.png");
+        BufferedImage bgImage = ImageLoader.loadBackgroundImage(BACKGROUND,
+                scene.getCols() * Game.TILE_SIZE, scene.getRows() * Game.TILE_SIZE);
 
         if (bgImage != null) {
             System.out.println("Background image loaded for scene 6: " + bgImage.getWidth() + "x" + bgImage.getHeight());
 
-            scene.setBackgroundImage(bgImage);
+            scene.setBackgroundImage(bgImage, BACKGROUND);
             initializeAllTilesAsWalkable(scene);
             setupCollisionAreas(scene);
 
@@ -26,7 +26,8 @@ public class SceneSix {
             setupFallback(scene);
         }
 
-        updateExitTile();
+        // The exitY static is only set by attach on the EDT; setup may run on the prefetch thread
+        applyExitTile(scene, exitX, scene.getRows() / 2);
     }
 
     private static void initializeAllTilesAsWalkable(SceneTile scene) {
@@ -43,21 +44,35 @@ public class SceneSix {
         }
     }
 
+    public static void attach(SceneTile scene) {
+        currentScene = scene;
+        exitY = scene.getRows() / 2;
+        updateExitTile();
+    }
+
     public static void updateExitTile() {
         if (currentScene == null) return;
 
-        // Only set exit tile if player has talked to Rajah Humabon
-        if (MissionManager.hasTalkedToHumabon()) {
-            currentScene.setExitTile(exitX, exitY, true);
-            currentScene.setTile(exitX, exitY, TileType.DOOR);
+        if (applyExitTile(currentScene, exitX, exitY)) {
             System.out.println("Exit tile ENABLED at (" + exitX + ", " + exitY + ") - blood compact completed!");
         } else {
-            currentScene.setExitTile(exitX, exitY, false);
-            currentScene.setTile(exitX, exitY, TileType.GRASS);
             System.out.println("Exit tile DISABLED - player must talk to Rajah Humabon first");
         }
     }
 
+    private static boolean applyExitTile(SceneTile scene, int exitX, int exitY) {
+        // Only set exit tile if player has talked to Rajah Humabon
+        if (MissionManager.hasTalkedToHumabon()) {
+            scene.setExitTile(exitX, exitY, true);
+            scene.setTile(exitX, exitY, TileType.DOOR);
+            return true;
+        } else {
+            scene.setExitTile(exitX, exitY, false);
+            scene.setTile(exitX, exitY, TileType.GRASS);
+            return false;
+        }
+    }
+
     private static void setupFallback(SceneTile scene) {
         for (int x = 0; x < scene.getCols(); x++) {
             for (int y = 0; y < scene.getRows(); y++) {
@@ -70,7 +85,6 @@ public class SceneSix {
                 }
             }
         }
-        updateExitTile();
     }
 
     public static String getCurrentMission() {
@@ -3,19 +3,20 @@ package org.example;
 import java.awt.image.BufferedImage;
 
 public class SceneThree {
+    private static final String BACKGROUND = "assets/backgrounds/ship.png";
+
     private static SceneTile currentScene;
     private static int exitX = 45;
     private static int exitY = 17;
 
     public static void setup(SceneTile scene) {
-        currentScene = scene;
-
-        BufferedImage bgImage = ImageLoader.loadUnscaledImage("assets/backgrounds/ship.png");
+        BufferedImage bgImage = ImageLoader.loadBackgroundImage(BACKGROUND,
+                scene.getCols() * Game.TILE_SIZE, scene.getRows() * Game.TILE_SIZE);
 
         if (bgImage != null) {
             System.out.println("Background image loaded for scene 3: " + bgImage.getWidth() + "x" + bgImage.getHeight());
 
-            scene.setBackgroundImage(bgImage);
+            scene.setBackgroundImage(bgImage, BACKGROUND);
             initializeAllTilesAsWalkable(scene);
             setupCollisionAreas(scene);
 
@@ -25,7 +26,7 @@ public class SceneThree {
             setupFallback(scene);
         }
 
-        updateExitTile();
+        applyExitTile(scene);
     }
 
     private static void initializeAllTilesAsWalkable(SceneTile scene) {
@@ -97,19 +98,32 @@ public class SceneThree {
         }
     }
 
+    public static void attach(SceneTile scene) {
+        currentScene = scene;
+        updateExitTile();
+    }
+
     public static void updateExitTile() {
         if (currentScene == null) return;
 
+        if (applyExitTile(currentScene)) {
+            System.out.println("Exit tile ENABLED at (" + exitX + ", " + exitY + ") - player can continue the voyage!");
+        } else {
+            System.out.println("Exit tile DISABLED - player must talk to the crew member first");
+        }
+    }
+
+    private static boolean applyExitTile(SceneTile scene) {
         boolean canExit = MissionManager.hasTalkedToSailor();
 
         if (canExit) {
-            currentScene.setExitTile(exitX, exitY, true);
-            currentScene.setTile(exitX, exitY, TileType.DOOR);
-            System.out.println("Exit tile ENABLED at (" + exitX + ", " + exitY + ") - player can continue the voyage!");
+            scene.setExitTile(exitX, exitY, true);
+            scene.setTile(exitX, exitY, TileType.DOOR);
+            return true;
         } else {
-            currentScene.setExitTile(exitX, exitY, false);
-            currentScene.setTile(exitX, exitY, TileType.GRASS);
-            System.out.println("Exit tile DISABLED - player must talk to the crew member first");
+            scene.setExitTile(exitX, exitY, false);
+            scene.setTile(exitX, exitY, TileType.GRASS);
+            return false;
         }
     }
 
@@ -125,7 +139,7 @@ public class SceneThree {
                 }
             }
         }
-        updateExitTile();
+        applyExitTile(scene);
     }
 
     public static String getCurrentMission() {
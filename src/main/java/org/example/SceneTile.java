@@ -1,25 +1,53 @@
 package org.example;
 
+import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.lang.foreign.MemorySegment;
 
 public class SceneTile {
-    private int cols;
-    private int rows;
-    private TileType[][] tiles;
-    private boolean[][] exitTiles;
+    private static final TileType[] TILE_TYPES = TileType.values();
+
+    private final int cols;
+    private final int rows;
+    // Row-major, one byte per tile: 0 for no tile, otherwise TileType ordinal + 1, plus one exit bit per tile
+    private final TileStorage storage;
+    private int exitCount = 0;
     private BufferedImage backgroundImage;
+    private String backgroundPath;
     private boolean useBackgroundImage = false;
+    private int[] objectPlacements; // type ordinal, x, y per object, when loaded from a scene file
+    private Point spawnPoint;
+    private final TileChunkCache chunkCache;
+    private final CollisionMap collisionMap;
 
     public SceneTile(int cols, int rows) {
+        this(cols, rows, TileStorage.create(cols, rows), 0);
+    }
+
+    // For SceneCache, which hands over storage that already holds the tiles and exits
+    SceneTile(int cols, int rows, TileStorage storage, int exitCount) {
+        this(cols, rows, storage, exitCount, null);
+    }
+
+    // For SceneFile, which also hands over the mapped collision plane; it must live as long as the storage
+    SceneTile(int cols, int rows, TileStorage storage, int exitCount, MemorySegment collisionBits) {
         this.cols = cols;
         this.rows = rows;
-        tiles = new TileType[cols][rows];
-        exitTiles = new boolean[cols][rows];
+        this.storage = storage;
+        this.exitCount = exitCount;
+        chunkCache = new TileChunkCache(this);
+        collisionMap = collisionBits == null ? new CollisionMap(this) : new CollisionMap(this, collisionBits);
+    }
+
+    public void setBackgroundImage(BufferedImage image, String path) {
+        this.backgroundPath = path;
+        setBackgroundImage(image);
     }
 
     public void setBackgroundImage(BufferedImage image) {
         this.backgroundImage = image;
         this.useBackgroundImage = true;
+        chunkCache.invalidateAll();
     }
 
     public boolean usesBackgroundImage() {
@@ -30,32 +58,78 @@ public class SceneTile {
         return backgroundImage;
     }
 
+    public String getBackgroundPath() {
+        return backgroundPath;
+    }
+
+    public int[] getObjectPlacements() {
+        return objectPlacements;
+    }
+
+    void setObjectPlacements(int[] objectPlacements) {
+        this.objectPlacements = objectPlacements;
+    }
+
+    // Null unless the scene file specified one
+    public Point getSpawnPoint() {
+        return spawnPoint;
+    }
+
+    void setSpawnPoint(int x, int y) {
+        this.spawnPoint = new Point(x, y);
+    }
+
     public TileType getTile(int x, int y) {
         if (x >= 0 && x < cols && y >= 0 && y < rows) {
-            return tiles[x][y];
+            return getTileUnchecked(x, y);
         }
         return null;
     }
 
+    // For loops that already stay inside the scene
+    public TileType getTileUnchecked(int x, int y) {
+        int code = storage.getTile(y * cols + x);
+        return code == 0 ? null : TILE_TYPES[code - 1];
+    }
+
     public void setTile(int x, int y, TileType tileType) {
-        if (x >= 0 && x < cols && y >= 0 && y < rows) {
-            tiles[x][y] = tileType;
+        if (x < 0 || x >= cols || y < 0 || y >= rows) {
+            return;
+        }
+
+        byte code = (byte) (tileType == null ? 0 : tileType.ordinal() + 1);
+        int index = y * cols + x;
+        if (storage.getTile(index) != code) {
+            storage.setTile(index, code);
+            chunkCache.invalidate(x, y);
+            collisionMap.refreshTile(x, y);
         }
     }
 
     public void setExitTile(int x, int y, boolean isExit) {
-        if (x >= 0 && x < cols && y >= 0 && y < rows) {
-            exitTiles[x][y] = isExit;
+        if (x < 0 || x >= cols || y < 0 || y >= rows) {
+            return;
+        }
+
+        int index = y * cols + x;
+        boolean wasExit = storage.isExit(index);
+        if (isExit != wasExit) {
+            storage.setExit(index, isExit);
+            exitCount += isExit ? 1 : -1;
         }
     }
 
     public boolean isExitTile(int x, int y) {
         if (x >= 0 && x < cols && y >= 0 && y < rows) {
-            return exitTiles[x][y];
+            return isExitTileUnchecked(x, y);
         }
         return false;
     }
 
+    public boolean isExitTileUnchecked(int x, int y) {
+        return storage.isExit(y * cols + x);
+    }
+
     public boolean isCollidable(int x, int y) {
         TileType tile = getTile(x, y);
 
@@ -66,17 +140,26 @@ public class SceneTile {
     }
 
     public boolean hasExitTiles() {
-        for (int x = 0; x < cols; x++) {
-            for (int y = 0; y < rows; y++) {
-                if (exitTiles[x][y]) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return exitCount > 0;
+    }
+
+    public int getExitCount() {
+        return exitCount;
+    }
+
+    // Frees the tile storage and collision bits (immediately, when they are off-heap); called when the
+    // scene is replaced
+    public void release() {
+        collisionMap.release();
+        storage.close();
+    }
+
+    public boolean isOffHeap() {
+        return storage instanceof OffHeapTileStorage;
     }
 
     public int getCols() { return cols; }
     public int getRows() { return rows; }
-    public TileType[][] getTiles() { return tiles; }
+    public TileChunkCache getChunkCache() { return chunkCache; }
+    public CollisionMap getCollisionMap() { return collisionMap; }
 }
\ No newline at end of file
@@ -3,19 +3,20 @@ package org.example;
 import java.awt.image.BufferedImage;
 
 public class SceneTwo {
+    private static final String BACKGROUND = "assets/backgrounds/dock.png";
+
     private static SceneTile currentScene;
     private static int exitX = 59;
     private static int exitY = 45;
 
     public static void setup(SceneTile scene) {
-        currentScene = scene;
-
-        BufferedImage bgImage = ImageLoader.loadUnscaledImage("assets/backgrounds/dock.png");
+        BufferedImage bgImage = ImageLoader.loadBackgroundImage(BACKGROUND,
+                scene.getCols() * Game.TILE_SIZE, scene.getRows() * Game.TILE_SIZE);
 
         if (bgImage != null) {
             System.out.println("Background image loaded: " + bgImage.getWidth() + "x" + bgImage.getHeight());
 
-            scene.setBackgroundImage(bgImage);
+            scene.setBackgroundImage(bgImage, BACKGROUND);
 
             initializeAllTilesAsWalkable(scene);
 
@@ -27,7 +28,7 @@ public class SceneTwo {
             setupFallback(scene);
         }
 
-        updateExitTile();
+        applyExitTile(scene);
     }
 
     private static void initializeAllTilesAsWalkable(SceneTile scene) {
@@ -56,21 +57,34 @@ public class SceneTwo {
         }
     }
 
+    public static void attach(SceneTile scene) {
+        currentScene = scene;
+        updateExitTile();
+    }
+
     public static void updateExitTile() {
         if (currentScene == null) return;
 
-        // Only set exit tile if player has talked to King Charles
-        if (MissionManager.hasTalkedToKingCharles()) {
-            currentScene.setExitTile(exitX, exitY, true);
-            currentScene.setTile(exitX, exitY, TileType.DOOR);
+        if (applyExitTile(currentScene)) {
             System.out.println("Exit tile ENABLED at (" + exitX + ", " + exitY + ") - player can sail now");
         } else {
-            currentScene.setExitTile(exitX, exitY, false);
-            currentScene.setTile(exitX, exitY, TileType.WATER); // Make it inaccessible
             System.out.println("Exit tile DISABLED - player must talk to Emperor Charles V first");
         }
     }
 
+    private static boolean applyExitTile(SceneTile scene) {
+        // Only set exit tile if player has talked to King Charles
+        if (MissionManager.hasTalkedToKingCharles()) {
+            scene.setExitTile(exitX, exitY, true);
+            scene.setTile(exitX, exitY, TileType.DOOR);
+            return true;
+        } else {
+            scene.setExitTile(exitX, exitY, false);
+            scene.setTile(exitX, exitY, TileType.WATER); // Make it inaccessible
+            return false;
+        }
+    }
+
     private static void setupFallback(SceneTile scene) {
         for (int x = 0; x < scene.getCols(); x++) {
             for (int y = 0; y < scene.getRows(); y++) {
@@ -87,7 +101,7 @@ public class SceneTwo {
             scene.setTile(scene.getCols() - 1, y, TileType.WATER);
         }
 
-        updateExitTile();
+        applyExitTile(scene);
     }
 
     public static String getCurrentMission() {
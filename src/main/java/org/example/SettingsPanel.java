@@ -4,13 +4,10 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 
 public class SettingsPanel extends JPanel {
     private boolean isVisible = false;
-    private Font customFont;
     private BufferedImage backgroundImage;
     private BufferedImage resumeButtonImage;
     private BufferedImage quitButtonImage;
@@ -80,35 +77,9 @@ public class SettingsPanel extends JPanel {
     }
 
     private void loadResources() {
-        // Load custom font
-        try {
-            InputStream fontStream = getClass().getClassLoader().getResourceAsStream("assets/font/customFont.ttf");
-            if (fontStream != null) {
-                customFont = Font.createFont(Font.TRUETYPE_FONT, fontStream).deriveFont(24f);
-                fontStream.close();
-                GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-                ge.registerFont(customFont);
-            } else {
-                // Fallback to file system for development
-                customFont = Font.createFont(Font.TRUETYPE_FONT, new File("assets/font/customFont.ttf")).deriveFont(24f);
-                GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-                ge.registerFont(customFont);
-            }
-        } catch (FontFormatException | IOException e) {
-            System.err.println("Failed to load custom font, using fallback: " + e.getMessage());
-            customFont = new Font("Arial", Font.BOLD, 24);
-        }
-
         // Load background image
         try {
-            InputStream bgStream = getClass().getClassLoader().getResourceAsStream("assets/ui/settingsBackground.png");
-            if (bgStream != null) {
-                backgroundImage = javax.imageio.ImageIO.read(bgStream);
-                bgStream.close();
-            } else {
-                // Fallback to file system for development
-                backgroundImage = javax.imageio.ImageIO.read(new File("assets/ui/settingsBackground.png"));
-            }
+            backgroundImage = readImage("assets/ui/settingsBackground.png");
             originalBgWidth = backgroundImage.getWidth();
             originalBgHeight = backgroundImage.getHeight();
         } catch (Exception e) {
@@ -118,14 +89,7 @@ public class SettingsPanel extends JPanel {
 
         // Load resume button image
         try {
-            InputStream resumeStream = getClass().getClassLoader().getResourceAsStream("assets/ui/resumeButton.png");
-            if (resumeStream != null) {
-                resumeButtonImage = javax.imageio.ImageIO.read(resumeStream);
-                resumeStream.close();
-            } else {
-                // Fallback to file system for development
-                resumeButtonImage = javax.imageio.ImageIO.read(new File("assets/ui/resumeButton.png"));
-            }
+            resumeButtonImage = readImage("assets/ui/resumeButton.png");
             originalResumeWidth = resumeButtonImage.getWidth();
             originalResumeHeight = resumeButtonImage.getHeight();
         } catch (Exception e) {
@@ -135,14 +99,7 @@ public class SettingsPanel extends JPanel {
 
         // Load quit button image
         try {
-            InputStream quitStream = getClass().getClassLoader().getResourceAsStream("assets/ui/quitButton.png");
-            if (quitStream != null) {
-                quitButtonImage = javax.imageio.ImageIO.read(quitStream);
-                quitStream.close();
-            } else {
-                // Fallback to file system for development
-                quitButtonImage = javax.imageio.ImageIO.read(new File("assets/ui/quitButton.png"));
-            }
+            quitButtonImage = readImage("assets/ui/quitButton.png");
             originalQuitWidth = quitButtonImage.getWidth();
             originalQuitHeight = quitButtonImage.getHeight();
         } catch (Exception e) {
@@ -151,6 +108,14 @@ public class SettingsPanel extends JPanel {
         }
     }
 
+    private static BufferedImage readImage(String path) throws IOException {
+        BufferedImage image = ImageLoader.loadOriginalImage(path);
+        if (image == null) {
+            throw new IOException("not found: " + path);
+        }
+        return image;
+    }
+
     private JButton createImageButton(String text, BufferedImage image, int originalWidth, int originalHeight) {
         JButton button;
 
@@ -161,6 +126,7 @@ public class SettingsPanel extends JPanel {
             int buttonWidth = baseSize;
             int buttonHeight = (int) (baseSize / aspectRatio);
 
+            Font labelFont = FontRegistry.get(14f);
             button = new JButton() {
                 @Override
                 protected void paintComponent(Graphics g) {
@@ -172,7 +138,7 @@ public class SettingsPanel extends JPanel {
                         Graphics2D g2d = (Graphics2D) g;
                         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
                         g2d.setColor(Color.WHITE);
-                        g2d.setFont(customFont.deriveFont(14f));
+                        g2d.setFont(labelFont);
 
                         FontMetrics fm = g2d.getFontMetrics();
                         int textWidth = fm.stringWidth(getText());
@@ -196,7 +162,7 @@ public class SettingsPanel extends JPanel {
             button.setPreferredSize(new Dimension(80, 30));
             button.setMinimumSize(new Dimension(80, 30));
             button.setMaximumSize(new Dimension(80, 30));
-            button.setFont(customFont.deriveFont(12f));
+            button.setFont(FontRegistry.get(12f));
             button.setBackground(new Color(70, 70, 70));
             button.setForeground(Color.WHITE);
             button.setBorder(BorderFactory.createLineBorder(Color.WHITE, 1));
@@ -1,65 +1,124 @@
 package org.example;
 
 import javax.sound.sampled.*;
-import java.io.File;
+import java.io.BufferedInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 
+// Streams the background music on its own thread: the track is read a chunk at a time into a
+// SourceDataLine and reopened from the start when it ends, so playback starts right away, memory stays at
+// one chunk plus the line's buffer however long the track is, and the EDT never waits on decoding.
 public class SoundManager {
-    private Clip backgroundMusic;
-    private float volume = 0.5f; // Default volume (0.0 to 1.0)
+    private static final String MUSIC_PATH = "assets/sound/backgroundMusic.wav";
+    private static final float LINE_BUFFER_SECONDS = 0.5f;
+
+    private volatile SourceDataLine line;
+    private volatile float volume = 0.5f; // Default volume (0.0 to 1.0)
 
     public SoundManager() {
-        loadBackgroundMusic();
+        Thread musicThread = new Thread(this::streamBackgroundMusic, "background-music");
+        musicThread.setDaemon(true);
+        // Underruns are audible; everything else in the game tolerates being delayed a little
+        musicThread.setPriority(Thread.MAX_PRIORITY);
+        musicThread.start();
     }
 
-    private void loadBackgroundMusic() {
+    private void streamBackgroundMusic() {
+        byte[] chunk = null;
+
         try {
-            // Try to load from resources first
-            InputStream audioStream = getClass().getClassLoader()
-                    .getResourceAsStream("assets/sound/backgroundMusic.wav");
-
-            if (audioStream != null) {
-                AudioInputStream audioInput = AudioSystem.getAudioInputStream(audioStream);
-                backgroundMusic = AudioSystem.getClip();
-                backgroundMusic.open(audioInput);
-            } else {
-                // Fallback to file system
-                File audioFile = new File("assets/sound/backgroundMusic.wav");
-                if (audioFile.exists()) {
-                    AudioInputStream audioInput = AudioSystem.getAudioInputStream(audioFile);
-                    backgroundMusic = AudioSystem.getClip();
-                    backgroundMusic.open(audioInput);
-                } else {
-                    System.err.println("Background music file not found: assets/sound/backgroundMusic.wav");
+            while (true) {
+                AudioInputStream audioInput = openMusic();
+                if (audioInput == null) {
+                    System.err.println("Background music file not found: " + MUSIC_PATH);
                     return;
                 }
-            }
 
-            // Set the clip to loop continuously
-            backgroundMusic.loop(Clip.LOOP_CONTINUOUSLY);
+                try (audioInput) {
+                    AudioFormat format = audioInput.getFormat();
+                    if (line == null) {
+                        line = openLine(format);
+                        // A setVolume while the line was opening saw no line to apply to
+                        applyVolume(line, volume);
+                        chunk = new byte[Math.max(format.getFrameSize(), line.getBufferSize() / 4
+                                / format.getFrameSize() * format.getFrameSize())];
+                    }
 
-            // Set initial volume
-            setVolume(volume);
+                    // write() blocks while the line's buffer is full, which paces the reads. The line is kept
+                    // running between passes, so the next loop's first chunk follows the last one without a gap.
+                    int read;
+                    long passBytes = 0;
+                    while ((read = audioInput.read(chunk, 0, chunk.length)) > 0) {
+                        line.write(chunk, 0, read);
+                        passBytes += read;
+                    }
+                    if (passBytes == 0) {
+                        System.err.println("Background music has no audio data: " + MUSIC_PATH);
+                        return;
+                    }
+                }
+            }
+        } catch (IOException | LineUnavailableException | UnsupportedAudioFileException | IllegalArgumentException e) {
+            System.err.println("Error playing background music: " + e.getMessage());
+        } finally {
+            if (line != null) {
+                line.close();
+            }
+        }
+    }
 
-            // AUTO-START THE MUSIC IMMEDIATELY
-            backgroundMusic.start();
+    // A fresh PCM stream over the track, or null when it doesn't exist
+    private static AudioInputStream openMusic() throws IOException, UnsupportedAudioFileException {
+        InputStream audioStream = AssetPack.open(MUSIC_PATH);
+        if (audioStream == null) {
+            return null;
+        }
 
-        } catch (Exception e) {
-            System.err.println("Error loading background music: " + e.getMessage());
+        AudioInputStream audioInput = AudioSystem.getAudioInputStream(
+                audioStream.markSupported() ? audioStream : new BufferedInputStream(audioStream));
+        AudioFormat format = audioInput.getFormat();
+        if (format.getEncoding() == AudioFormat.Encoding.PCM_SIGNED ||
+                format.getEncoding() == AudioFormat.Encoding.PCM_UNSIGNED) {
+            return audioInput;
         }
+
+        // e.g. u-law or a-law WAVs: decode to 16-bit PCM as the chunks are read
+        AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), 16,
+                format.getChannels(), format.getChannels() * 2, format.getSampleRate(), false);
+        return AudioSystem.getAudioInputStream(pcm, audioInput);
+    }
+
+    private SourceDataLine openLine(AudioFormat format) throws LineUnavailableException {
+        SourceDataLine opened = AudioSystem.getSourceDataLine(format);
+        int bufferBytes = (int) (format.getFrameRate() * LINE_BUFFER_SECONDS) * format.getFrameSize();
+        opened.open(format, bufferBytes);
+
+        applyVolume(opened, volume);
+        opened.start();
+        return opened;
     }
 
     public void setVolume(float volume) {
         this.volume = Math.max(0.0f, Math.min(1.0f, volume)); // Clamp between 0 and 1
 
-        if (backgroundMusic != null) {
-            FloatControl gainControl = (FloatControl) backgroundMusic.getControl(FloatControl.Type.MASTER_GAIN);
-            float dB = (float) (Math.log(this.volume) / Math.log(10.0) * 20.0);
-            gainControl.setValue(dB);
+        SourceDataLine current = line;
+        if (current != null) {
+            applyVolume(current, this.volume);
         }
     }
 
+    private static void applyVolume(SourceDataLine line, float volume) {
+        if (!line.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
+            return;
+        }
+
+        FloatControl gainControl = (FloatControl) line.getControl(FloatControl.Type.MASTER_GAIN);
+        float dB = (float) (Math.log(volume) / Math.log(10.0) * 20.0);
+        // Volume 0 is -infinity dB; the control's minimum is as quiet as the line goes
+        gainControl.setValue(Math.max(gainControl.getMinimum(), Math.min(gainControl.getMaximum(), dB)));
+    }
+
     public float getVolume() {
         return volume;
     }
-}
\ No newline at end of file
+}
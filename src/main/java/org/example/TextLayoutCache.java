@@ -0,0 +1,111 @@
+package org.example;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineBreakMeasurer;
+import java.awt.font.LineMetrics;
+import java.awt.font.TextAttribute;
+import java.awt.font.TextLayout;
+import java.text.AttributedString;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Wrapped text laid out once per (text, font, wrap width) so painting only draws the cached lines
+// instead of splitting and measuring words every repaint. Only used from the EDT.
+public class TextLayoutCache {
+    private static final int MAX_ENTRIES = 64;
+
+    private record Key(String text, Font font, int wrapWidth, FontRenderContext frc) {}
+
+    public static final class Block {
+        private final TextLayout[] lines;
+        private final float[] widths;
+        private final float ascent;
+        private final float lineHeight;
+
+        private Block(TextLayout[] lines, float ascent, float lineHeight) {
+            this.lines = lines;
+            this.widths = new float[lines.length];
+            for (int i = 0; i < lines.length; i++) {
+                widths[i] = lines[i].getVisibleAdvance();
+            }
+            this.ascent = ascent;
+            this.lineHeight = lineHeight;
+        }
+
+        public int getLineCount() {
+            return lines.length;
+        }
+
+        public float getLineWidth(int line) {
+            return widths[line];
+        }
+
+        public float getAscent() {
+            return ascent;
+        }
+
+        // Same as FontMetrics.getHeight for the font
+        public float getLineHeight() {
+            return lineHeight;
+        }
+
+        // y is the baseline, like drawString
+        public void drawLine(Graphics2D g, int line, float x, float y) {
+            lines[line].draw(g, x, y);
+        }
+    }
+
+    private static final Map<Key, Block> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Block> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    // wrapWidth <= 0 lays the text out as a single line
+    public static Block get(Graphics2D g, String text, Font font, int wrapWidth) {
+        return cache.computeIfAbsent(new Key(text, font, wrapWidth, g.getFontRenderContext()), TextLayoutCache::layout);
+    }
+
+    private static Block layout(Key key) {
+        LineMetrics metrics = key.font().getLineMetrics("Xg", key.frc());
+        float ascent = metrics.getAscent();
+        float lineHeight = metrics.getAscent() + metrics.getDescent() + metrics.getLeading();
+
+        String text = key.text();
+        if (text == null || text.isEmpty()) {
+            return new Block(new TextLayout[0], ascent, lineHeight);
+        }
+
+        AttributedString attributed = new AttributedString(text);
+        attributed.addAttribute(TextAttribute.FONT, key.font());
+
+        if (key.wrapWidth() <= 0) {
+            return new Block(new TextLayout[] {new TextLayout(attributed.getIterator(), key.frc())},
+                    ascent, lineHeight);
+        }
+
+        List<TextLayout> lines = new ArrayList<>();
+        LineBreakMeasurer measurer = new LineBreakMeasurer(attributed.getIterator(), key.frc());
+        while (measurer.getPosition() < text.length()) {
+            TextLayout line = measurer.nextLayout(key.wrapWidth());
+            if (line == null) {
+                break;
+            }
+            lines.add(line);
+        }
+
+        return new Block(lines.toArray(new TextLayout[0]), ascent, lineHeight);
+    }
+
+    public static int size() {
+        return cache.size();
+    }
+
+    public static void clear() {
+        cache.clear();
+    }
+}
@@ -0,0 +1,218 @@
+package org.example;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+// Packs every tile, object sprite and player frame into a few large compatible pages at load time.
+// Drawing goes through sub-rectangle lookups indexed by enum ordinal instead of separate images.
+// Sprites are packed at their on-screen size (see SpriteCache), so regions blit 1:1.
+public class TextureAtlas {
+    private static final int PAGE_WIDTH = 512;
+    private static final int MAX_PAGE_HEIGHT = 2048;
+    private static final int PADDING = 1;
+
+    public static final int PLAYER_FRAMES = 3;
+
+    private static TextureAtlas instance;
+
+    private record Region(String name, int page, int x, int y, int width, int height) {}
+
+    private final List<BufferedImage> pages = new ArrayList<>();
+    private final List<Region> regions = new ArrayList<>();
+    private final int[] tileRegions = new int[TileType.values().length];
+    private final int[] objectRegions = new int[ObjectType.values().length];
+    private final int[] playerRegions = new int[Direction.count() * PLAYER_FRAMES];
+
+    private TextureAtlas() {
+        Arrays.fill(tileRegions, -1);
+        Arrays.fill(objectRegions, -1);
+        Arrays.fill(playerRegions, -1);
+    }
+
+    public static TextureAtlas build(Map<Direction, BufferedImage[]> playerFrames) {
+        TextureAtlas atlas = new TextureAtlas();
+        List<String> names = new ArrayList<>();
+        List<BufferedImage> images = new ArrayList<>();
+        List<int[]> lookups = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+
+        for (TileType tile : TileType.values()) {
+            addEntry(names, images, lookups, slots, "tile/" + tile.name(), tile.getImage(),
+                    atlas.tileRegions, tile.ordinal());
+        }
+
+        for (ObjectType type : ObjectType.values()) {
+            BufferedImage sprite = SpriteCache.getObjectSprite(ObjectImageLoader.loadImage(type), type);
+            addEntry(names, images, lookups, slots, "object/" + type.name(), sprite,
+                    atlas.objectRegions, type.ordinal());
+        }
+
+        if (playerFrames != null) {
+            for (Direction direction : Direction.values()) {
+                BufferedImage[] frames = playerFrames.get(direction);
+                for (int f = 0; frames != null && f < Math.min(frames.length, PLAYER_FRAMES); f++) {
+                    addEntry(names, images, lookups, slots, "player/" + direction.name() + "/" + f,
+                            SpriteCache.getPlayerSprite(frames[f]), atlas.playerRegions,
+                            direction.ordinal() * PLAYER_FRAMES + f);
+                }
+            }
+        }
+
+        atlas.pack(names, images, lookups, slots);
+        instance = atlas;
+
+        System.out.println("Texture atlas packed: " + atlas.regions.size() + " regions on " +
+                atlas.pages.size() + " page(s)");
+
+        if (GameConfig.ATLAS_DUMP_DIR != null) {
+            atlas.dumpLayout(System.out);
+            atlas.writePages(new File(GameConfig.ATLAS_DUMP_DIR));
+        }
+
+        return atlas;
+    }
+
+    public static TextureAtlas get() {
+        return instance;
+    }
+
+    private static void addEntry(List<String> names, List<BufferedImage> images, List<int[]> lookups,
+                                 List<Integer> slots, String name, BufferedImage image, int[] lookup, int slot) {
+        if (image == null) {
+            return;
+        }
+        names.add(name);
+        images.add(image);
+        lookups.add(lookup);
+        slots.add(slot);
+    }
+
+    // Shelf packing: tallest images first, left to right, opening a new page when one fills up
+    private void pack(List<String> names, List<BufferedImage> images, List<int[]> lookups, List<Integer> slots) {
+        Integer[] order = new Integer[images.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> images.get(i).getHeight()).reversed());
+
+        Region[] placed = new Region[images.size()];
+        List<Integer> pageHeights = new ArrayList<>();
+        int page = 0;
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+
+        for (int i : order) {
+            BufferedImage image = images.get(i);
+            int width = image.getWidth();
+            int height = image.getHeight();
+
+            if (x + width > PAGE_WIDTH) {
+                x = 0;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            if (y + height > MAX_PAGE_HEIGHT) {
+                pageHeights.add(y);
+                page++;
+                x = 0;
+                y = 0;
+                shelfHeight = 0;
+            }
+
+            placed[i] = new Region(names.get(i), page, x, y, width, height);
+            x += width + PADDING;
+            shelfHeight = Math.max(shelfHeight, height);
+        }
+        pageHeights.add(y + shelfHeight);
+
+        for (int p = 0; p <= page && !images.isEmpty(); p++) {
+            int transparency = Transparency.OPAQUE;
+            for (int i = 0; i < placed.length; i++) {
+                if (placed[i].page() == p) {
+                    transparency = Math.max(transparency, images.get(i).getTransparency());
+                }
+            }
+            pages.add(ImageLoader.createCompatibleImage(PAGE_WIDTH, Math.max(1, pageHeights.get(p)), transparency));
+        }
+
+        Graphics2D[] graphics = new Graphics2D[pages.size()];
+        for (int i = 0; i < placed.length; i++) {
+            Region region = placed[i];
+            if (graphics[region.page()] == null) {
+                graphics[region.page()] = pages.get(region.page()).createGraphics();
+                graphics[region.page()].setComposite(AlphaComposite.Src);
+            }
+            graphics[region.page()].drawImage(images.get(i), region.x(), region.y(), null);
+
+            lookups.get(i)[slots.get(i)] = regions.size();
+            regions.add(region);
+        }
+        for (Graphics2D g : graphics) {
+            if (g != null) {
+                g.dispose();
+            }
+        }
+    }
+
+    public boolean drawTile(Graphics g, TileType tile, int x, int y) {
+        return drawRegion(g, tileRegions[tile.ordinal()], x, y, Game.TILE_SIZE, Game.TILE_SIZE);
+    }
+
+    public boolean drawObject(Graphics g, ObjectType type, int x, int y, int width, int height) {
+        return drawRegion(g, objectRegions[type.ordinal()], x, y, width, height);
+    }
+
+    public boolean drawPlayerFrame(Graphics g, Direction direction, int frame, int x, int y, int width, int height) {
+        return drawRegion(g, playerRegions[direction.ordinal() * PLAYER_FRAMES + frame], x, y, width, height);
+    }
+
+    private boolean drawRegion(Graphics g, int index, int x, int y, int width, int height) {
+        if (index < 0) {
+            return false;
+        }
+
+        Region r = regions.get(index);
+        g.drawImage(pages.get(r.page()), x, y, x + width, y + height,
+                r.x(), r.y(), r.x() + r.width(), r.y() + r.height(), null);
+        return true;
+    }
+
+    public void dumpLayout(PrintStream out) {
+        for (int p = 0; p < pages.size(); p++) {
+            BufferedImage page = pages.get(p);
+            out.println("Atlas page " + p + ": " + page.getWidth() + "x" + page.getHeight());
+            for (Region r : regions) {
+                if (r.page() == p) {
+                    out.println("  " + r.name() + " @ " + r.x() + "," + r.y() + " " + r.width() + "x" + r.height());
+                }
+            }
+        }
+    }
+
+    public void writePages(File directory) {
+        directory.mkdirs();
+        for (int p = 0; p < pages.size(); p++) {
+            File file = new File(directory, "atlas-page-" + p + ".png");
+            try {
+                ImageIO.write(pages.get(p), "png", file);
+                System.out.println("Atlas page written: " + file.getPath());
+            } catch (IOException e) {
+                System.err.println("Error writing atlas page: " + file.getPath() + " - " + e.getMessage());
+            }
+        }
+    }
+
+    public int getPageCount() {
+        return pages.size();
+    }
+}
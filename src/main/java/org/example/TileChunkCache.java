@@ -0,0 +1,175 @@
+package org.example;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+// Pre-renders a scene's tiles in CHUNK_SIZE x CHUNK_SIZE blocks so the renderer blits a handful of
+// images per frame instead of one per tile. Doors live on their own layer because they are drawn
+// after the world (and on top of background images).
+public class TileChunkCache {
+    public static final int CHUNK_SIZE = 16;
+
+    private final SceneTile scene;
+    private final int chunkCols;
+    private final int chunkRows;
+    private final BufferedImage[] baseChunks;
+    private final BufferedImage[] doorChunks;
+    private final boolean[] dirty;
+
+    public TileChunkCache(SceneTile scene) {
+        this.scene = scene;
+        this.chunkCols = (scene.getCols() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.chunkRows = (scene.getRows() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        int chunkCount = chunkCols * chunkRows;
+        baseChunks = new BufferedImage[chunkCount];
+        doorChunks = new BufferedImage[chunkCount];
+        dirty = new boolean[chunkCount];
+        invalidateAll();
+    }
+
+    public void invalidate(int tileX, int tileY) {
+        dirty[(tileY / CHUNK_SIZE) * chunkCols + tileX / CHUNK_SIZE] = true;
+    }
+
+    public void invalidateAll() {
+        Arrays.fill(dirty, true);
+    }
+
+    public void drawBaseLayer(Graphics2D g, Rectangle visibleArea, int cameraX, int cameraY) {
+        drawLayer(g, visibleArea, cameraX, cameraY, true);
+    }
+
+    public void drawDoorLayer(Graphics2D g, Rectangle visibleArea, int cameraX, int cameraY) {
+        drawLayer(g, visibleArea, cameraX, cameraY, false);
+    }
+
+    private void drawLayer(Graphics2D g, Rectangle visibleArea, int cameraX, int cameraY, boolean base) {
+        int firstCol = Math.max(0, visibleArea.x) / CHUNK_SIZE;
+        int firstRow = Math.max(0, visibleArea.y) / CHUNK_SIZE;
+        int lastCol = Math.min(chunkCols - 1, Math.floorDiv(visibleArea.x + visibleArea.width - 1, CHUNK_SIZE));
+        int lastRow = Math.min(chunkRows - 1, Math.floorDiv(visibleArea.y + visibleArea.height - 1, CHUNK_SIZE));
+        int chunkPixels = CHUNK_SIZE * Game.TILE_SIZE;
+
+        for (int chunkY = firstRow; chunkY <= lastRow; chunkY++) {
+            for (int chunkX = firstCol; chunkX <= lastCol; chunkX++) {
+                int index = chunkY * chunkCols + chunkX;
+                if (dirty[index]) {
+                    rebuildChunk(chunkX, chunkY, index);
+                }
+
+                BufferedImage chunk = base ? baseChunks[index] : doorChunks[index];
+                if (chunk != null) {
+                    g.drawImage(chunk, chunkX * chunkPixels - cameraX, chunkY * chunkPixels - cameraY, null);
+                }
+            }
+        }
+    }
+
+    private void rebuildChunk(int chunkX, int chunkY, int index) {
+        int startX = chunkX * CHUNK_SIZE;
+        int startY = chunkY * CHUNK_SIZE;
+        int widthInTiles = Math.min(CHUNK_SIZE, scene.getCols() - startX);
+        int heightInTiles = Math.min(CHUNK_SIZE, scene.getRows() - startY);
+        int tileSize = Game.TILE_SIZE;
+
+        Graphics2D baseGraphics = null;
+        if (!scene.usesBackgroundImage()) {
+            if (baseChunks[index] == null) {
+                baseChunks[index] = ImageLoader.createCompatibleImage(
+                        widthInTiles * tileSize, heightInTiles * tileSize, Transparency.OPAQUE);
+            }
+            baseGraphics = baseChunks[index].createGraphics();
+            baseGraphics.setColor(Color.BLACK);
+            baseGraphics.fillRect(0, 0, widthInTiles * tileSize, heightInTiles * tileSize);
+        } else {
+            baseChunks[index] = null;
+        }
+
+        Graphics2D doorGraphics = null;
+
+        for (int y = 0; y < heightInTiles; y++) {
+            for (int x = 0; x < widthInTiles; x++) {
+                TileType tile = scene.getTileUnchecked(startX + x, startY + y);
+                if (tile == null) {
+                    continue;
+                }
+
+                if (tile == TileType.DOOR) {
+                    if (doorGraphics == null) {
+                        doorGraphics = createDoorGraphics(index, widthInTiles, heightInTiles);
+                    }
+                    drawTile(doorGraphics, tile, x * tileSize, y * tileSize);
+                } else if (baseGraphics != null) {
+                    drawTile(baseGraphics, tile, x * tileSize, y * tileSize);
+                }
+            }
+        }
+
+        if (baseGraphics != null) {
+            baseGraphics.dispose();
+        }
+        if (doorGraphics != null) {
+            doorGraphics.dispose();
+        } else {
+            doorChunks[index] = null;
+        }
+
+        dirty[index] = false;
+    }
+
+    private Graphics2D createDoorGraphics(int index, int widthInTiles, int heightInTiles) {
+        if (doorChunks[index] == null) {
+            doorChunks[index] = ImageLoader.createCompatibleImage(
+                    widthInTiles * Game.TILE_SIZE, heightInTiles * Game.TILE_SIZE, Transparency.TRANSLUCENT);
+        }
+
+        Graphics2D g = doorChunks[index].createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, widthInTiles * Game.TILE_SIZE, heightInTiles * Game.TILE_SIZE);
+        g.setComposite(AlphaComposite.SrcOver);
+        return g;
+    }
+
+    private static void drawTile(Graphics2D g, TileType tile, int x, int y) {
+        TextureAtlas atlas = TextureAtlas.get();
+        if (atlas != null && atlas.drawTile(g, tile, x, y)) {
+            return;
+        }
+
+        BufferedImage tileImage = tile.getImage();
+        if (tileImage != null) {
+            g.drawImage(tileImage, x, y, null);
+        } else {
+            drawFallbackTile(g, tile, x, y);
+        }
+    }
+
+    private static void drawFallbackTile(Graphics2D g, TileType tile, int x, int y) {
+        Color color = switch (tile) {
+            case GRASS -> Color.GREEN;
+            case WATER -> Color.BLUE;
+            case SAND -> Color.YELLOW;
+            case TILE1 -> Color.GRAY;
+            case TILE2 -> Color.DARK_GRAY;
+            case CARPET_LEFT -> Color.RED;
+            case CARPET_MIDDLE -> Color.RED;
+            case CARPET_RIGHT -> Color.RED;
+            case DOOR -> new Color(139, 69, 19);
+            default -> Color.MAGENTA;
+        };
+
+        g.setColor(color);
+        g.fillRect(x, y, Game.TILE_SIZE, Game.TILE_SIZE);
+        g.setColor(Color.BLACK);
+        g.drawRect(x, y, Game.TILE_SIZE, Game.TILE_SIZE);
+
+        if (tile == TileType.DOOR) {
+            g.setColor(new Color(210, 180, 140));
+            g.fillRect(x + 8, y + 4, Game.TILE_SIZE - 16, Game.TILE_SIZE - 8);
+            g.setColor(Color.BLACK);
+            g.drawRect(x + 8, y + 4, Game.TILE_SIZE - 16, Game.TILE_SIZE - 8);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.example;
+
+// Backing memory for a SceneTile's tile codes and exit flags, addressed by row-major tile index.
+// Small scenes live on the heap; large ones go off-heap (see OffHeapTileStorage).
+public interface TileStorage extends AutoCloseable {
+    // Scenes with more tiles than this are stored off-heap unless -Dmagellan.offHeapTiles says otherwise
+    int OFF_HEAP_THRESHOLD = 1 << 20;
+
+    byte getTile(int index);
+
+    void setTile(int index, byte code);
+
+    boolean isExit(int index);
+
+    void setExit(int index, boolean exit);
+
+    // Frees the memory; the storage must not be used afterwards
+    @Override
+    void close();
+
+    static TileStorage create(int cols, int rows) {
+        long tileCount = (long) cols * rows;
+        return isOffHeap(tileCount) ? new OffHeapTileStorage(tileCount) : new HeapTileStorage((int) tileCount);
+    }
+
+    // Storage holding the given tile codes and exit words. On the heap it reads the arrays in place
+    // until the first write, so they must not be modified afterwards.
+    static TileStorage of(int cols, int rows, byte[] tiles, long[] exits) {
+        long tileCount = (long) cols * rows;
+        if (!isOffHeap(tileCount)) {
+            return new HeapTileStorage(tiles, exits);
+        }
+
+        TileStorage storage = new OffHeapTileStorage(tileCount);
+        for (int i = 0; i < tiles.length; i++) {
+            if (tiles[i] != 0) {
+                storage.setTile(i, tiles[i]);
+            }
+            if ((exits[i >>> 6] & (1L << i)) != 0) {
+                storage.setExit(i, true);
+            }
+        }
+        return storage;
+    }
+
+    private static boolean isOffHeap(long tileCount) {
+        return GameConfig.OFF_HEAP_TILES != null
+                ? GameConfig.OFF_HEAP_TILES
+                : tileCount > OFF_HEAP_THRESHOLD;
+    }
+}
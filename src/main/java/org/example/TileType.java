@@ -1,6 +1,7 @@
 package org.example;
 
 import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
 
 public enum TileType {
     GRASS("grass.png", false),
@@ -37,9 +38,15 @@ public enum TileType {
         return collidable;
     }
 
+    // Decodes the tile images in parallel on ImageLoader's threads
     public static void preloadAll() {
-        for (TileType type : values()) {
-            type.loadImage();
+        TileType[] types = values();
+        CompletableFuture<?>[] loads = new CompletableFuture<?>[types.length];
+        for (int i = 0; i < types.length; i++) {
+            TileType type = types[i];
+            loads[i] = ImageLoader.loadImageAsync(type.imagePath, Game.TILE_SIZE, Game.TILE_SIZE)
+                    .thenAccept(image -> type.image = image);
         }
+        CompletableFuture.allOf(loads).join();
     }
 }
\ No newline at end of file
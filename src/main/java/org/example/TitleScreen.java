@@ -4,9 +4,6 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-import java.io.File;
-import java.io.InputStream;
 
 public class TitleScreen extends JPanel {
     private boolean isVisible = false;
@@ -27,46 +24,22 @@ public class TitleScreen extends JPanel {
 
         loadTitleImage();
 
-        // Load custom font or use fallback
-        try {
-            InputStream fontStream = getClass().getClassLoader()
-                    .getResourceAsStream("assets/font/customFont.ttf");
-            if (fontStream != null) {
-                Font customFont = Font.createFont(Font.TRUETYPE_FONT, fontStream);
-                titleFont = customFont.deriveFont(Font.BOLD, 36f);
-                continueFont = customFont.deriveFont(Font.PLAIN, 18f);
-            } else {
-                titleFont = new Font("Arial", Font.BOLD, 36);
-                continueFont = new Font("Arial", Font.PLAIN, 18);
-            }
-        } catch (Exception e) {
-            titleFont = new Font("Arial", Font.BOLD, 36);
-            continueFont = new Font("Arial", Font.PLAIN, 18);
-        }
+        titleFont = FontRegistry.get(Font.BOLD, 36f);
+        continueFont = FontRegistry.get(Font.PLAIN, 18f);
     }
 
     private void loadTitleImage() {
         try {
-            // Try to load from resources first
-            InputStream imageStream = getClass().getClassLoader()
-                    .getResourceAsStream("assets/backgrounds/title.png");
-            if (imageStream != null) {
-                titleImage = ImageIO.read(imageStream);
-            } else {
-                // Fallback to file system
-                File imageFile = new File("assets/backgrounds/title.png");
-                if (imageFile.exists()) {
-                    titleImage = ImageIO.read(imageFile);
-                } else {
-                    System.err.println("Title image not found: assets/backgrounds/title.png");
-                    // Create a placeholder
-                    titleImage = new BufferedImage(400, 200, BufferedImage.TYPE_INT_ARGB);
-                    Graphics2D g2d = titleImage.createGraphics();
-                    g2d.setColor(Color.WHITE);
-                    g2d.setFont(new Font("Arial", Font.BOLD, 24));
-                    g2d.drawString("MAGELLAN'S JOURNEY", 50, 100);
-                    g2d.dispose();
-                }
+            titleImage = ImageLoader.loadOriginalImage("assets/backgrounds/title.png");
+            if (titleImage == null) {
+                System.err.println("Title image not found: assets/backgrounds/title.png");
+                // Create a placeholder
+                titleImage = new BufferedImage(400, 200, BufferedImage.TYPE_INT_ARGB);
+                Graphics2D g2d = titleImage.createGraphics();
+                g2d.setColor(Color.WHITE);
+                g2d.setFont(new Font("Arial", Font.BOLD, 24));
+                g2d.drawString("MAGELLAN'S JOURNEY", 50, 100);
+                g2d.dispose();
             }
         } catch (Exception e) {
             System.err.println("Error loading title image: " + e.getMessage());